@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptValueCache;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Proxy encrypt value cache exporter.
+ */
+public final class ProxyEncryptValueCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_encrypt_value_cache", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Encrypt value cache of ShardingSphere-Proxy. size is number of cached values; estimated_bytes is estimated memory of cached values; hit_rate is ratio of cache hits",
+            Arrays.asList("database", "column", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            each.getRuleMetaData().findSingleRule(EncryptRule.class).ifPresent(optional -> addMetrics(result, each.getName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final EncryptRule rule) {
+        for (Entry<String, EncryptValueCache> entry : rule.getValueCaches().entrySet()) {
+            EncryptValueCache valueCache = entry.getValue();
+            collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "size"), valueCache.size());
+            collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "estimated_bytes"), valueCache.getEstimatedBytes());
+            collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "hit_count"), valueCache.getHitCount());
+            collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "miss_count"), valueCache.getMissCount());
+            collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "hit_rate"), valueCache.getHitRate());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.codec;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decimal text utility class, which writes decimal text of integral values into byte buffer without creating strings.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DecimalTextUtils {
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value integral value
+     * @return length of decimal text
+     */
+    public static int getLength(final long value) {
+        int result = value < 0L ? 2 : 1;
+        // calculate with negative value to avoid overflow of Long.MIN_VALUE
+        long remain = value > 0L ? -value : value;
+        while (remain <= -10L) {
+            remain /= 10L;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text of integral value into byte buffer.
+     *
+     * @param byteBuf byte buffer
+     * @param value integral value
+     * @param length length of decimal text
+     */
+    public static void write(final ByteBuf byteBuf, final long value, final int length) {
+        byteBuf.ensureWritable(length);
+        int index = byteBuf.writerIndex() + length;
+        long remain = value > 0L ? -value : value;
+        do {
+            byteBuf.setByte(--index, '0' - (int) (remain % 10L));
+            remain /= 10L;
+        } while (0L != remain);
+        if (value < 0L) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(byteBuf.writerIndex() + length);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DecimalTextUtilsTest {
+    
+    @Test
+    void assertGetLength() {
+        assertThat(DecimalTextUtils.getLength(0L), is(1));
+        assertThat(DecimalTextUtils.getLength(9L), is(1));
+        assertThat(DecimalTextUtils.getLength(10L), is(2));
+        assertThat(DecimalTextUtils.getLength(-10L), is(3));
+        assertThat(DecimalTextUtils.getLength(Long.MAX_VALUE), is(String.valueOf(Long.MAX_VALUE).length()));
+        assertThat(DecimalTextUtils.getLength(Long.MIN_VALUE), is(String.valueOf(Long.MIN_VALUE).length()));
+    }
+    
+    @Test
+    void assertWrite() {
+        assertWrite(0L);
+        assertWrite(7L);
+        assertWrite(-120L);
+        assertWrite(1234567890L);
+        assertWrite(Long.MAX_VALUE);
+        assertWrite(Long.MIN_VALUE);
+    }
+    
+    private void assertWrite(final long value) {
+        ByteBuf byteBuf = Unpooled.buffer(1);
+        byteBuf.writeByte('x');
+        DecimalTextUtils.write(byteBuf, value, DecimalTextUtils.getLength(value));
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("x" + value));
+    }
+}
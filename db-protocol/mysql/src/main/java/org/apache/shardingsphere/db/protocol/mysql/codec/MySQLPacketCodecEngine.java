@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -88,6 +89,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLEncodedPacketBatch) {
+            writeEncodedPacketBatch(context, ((MySQLEncodedPacketBatch) message).getEncodedPackets());
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -106,6 +111,14 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         }
     }
     
+    private void writeEncodedPacketBatch(final ChannelHandlerContext context, final ByteBuf encodedPackets) {
+        AtomicInteger sequenceId = context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get();
+        for (int i = encodedPackets.readerIndex(); i < encodedPackets.writerIndex(); i += PAYLOAD_LENGTH + SEQUENCE_LENGTH + encodedPackets.getUnsignedMediumLE(i)) {
+            encodedPackets.setByte(i + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+        }
+        context.write(encodedPackets);
+    }
+    
     private ByteBuf prepareMessageHeader(final ByteBuf out) {
         return out.writeInt(0);
     }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Batch of encoded packets for MySQL.
+ * 
+ * <p>Packets are encoded with their headers already, sequence IDs in the headers are assigned by codec engine when the batch is written to channel.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLEncodedPacketBatch extends MySQLPacket {
+    
+    private final ByteBuf encodedPackets;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(encodedPackets);
+        encodedPackets.release();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.codec.DecimalTextUtils;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Text result set row encoder for MySQL, which writes column values into payload directly with value encoders chosen by column types.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_text_resultset_row.html">Text Resultset Row</a>
+ */
+public final class MySQLTextResultSetRowEncoder {
+    
+    private static final int NULL = 0xfb;
+    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    private final ValueEncoder[] valueEncoders;
+    
+    public MySQLTextResultSetRowEncoder(final List<Integer> columnTypes) {
+        valueEncoders = new ValueEncoder[columnTypes.size()];
+        int index = 0;
+        for (int each : columnTypes) {
+            valueEncoders[index++] = getValueEncoder(each);
+        }
+    }
+    
+    private ValueEncoder getValueEncoder(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return MySQLTextResultSetRowEncoder::encodeIntegralValue;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return MySQLTextResultSetRowEncoder::encodeStringValue;
+            default:
+                return MySQLTextResultSetRowEncoder::encodeGenericValue;
+        }
+    }
+    
+    /**
+     * Encode column value.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param columnIndex column index, starts from 0
+     * @param value column value
+     */
+    public void encode(final MySQLPacketPayload payload, final int columnIndex, final Object value) {
+        if (null == value) {
+            payload.writeInt1(NULL);
+            return;
+        }
+        valueEncoders[columnIndex].encode(payload, value);
+    }
+    
+    /**
+     * Encode column value without column type.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param value column value
+     */
+    public static void encodeValue(final MySQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt1(NULL);
+            return;
+        }
+        encodeGenericValue(payload, value);
+    }
+    
+    private static void encodeIntegralValue(final MySQLPacketPayload payload, final Object value) {
+        if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            encodeGenericValue(payload, value);
+            return;
+        }
+        long integralValue = ((Number) value).longValue();
+        int length = DecimalTextUtils.getLength(integralValue);
+        payload.writeIntLenenc(length);
+        DecimalTextUtils.write(payload.getByteBuf(), integralValue, length);
+    }
+    
+    private static void encodeStringValue(final MySQLPacketPayload payload, final Object value) {
+        if (!(value instanceof String) || !StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            encodeGenericValue(payload, value);
+            return;
+        }
+        int length = ByteBufUtil.utf8Bytes((String) value);
+        payload.writeIntLenenc(length);
+        ByteBufUtil.reserveAndWriteUtf8(payload.getByteBuf(), (String) value, length);
+    }
+    
+    private static void encodeGenericValue(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if (value instanceof Timestamp && 0 == ((Timestamp) value).getNanos()) {
+            payload.writeStringLenenc(value.toString().split("\\.")[0]);
+        } else if (value instanceof BigDecimal) {
+            payload.writeStringLenenc(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            payload.writeBytesLenenc((boolean) value ? new byte[]{1} : new byte[]{0});
+        } else if (value instanceof LocalDateTime) {
+            payload.writeStringLenenc(DATE_TIME_FORMATTER.format((LocalDateTime) value));
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
+    
+    private interface ValueEncoder {
+        
+        void encode(MySQLPacketPayload payload, Object value);
+    }
+}
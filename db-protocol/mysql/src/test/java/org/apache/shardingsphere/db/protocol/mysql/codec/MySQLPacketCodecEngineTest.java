@@ -24,6 +24,7 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
@@ -167,6 +168,19 @@ class MySQLPacketCodecEngineTest {
         return result.retain();
     }
     
+    @Test
+    void assertEncodeEncodedPacketBatch() {
+        ByteBuf encodedPackets = Unpooled.buffer();
+        encodedPackets.writeMediumLE(2).writeByte(0).writeShort(0);
+        encodedPackets.writeMediumLE(1).writeByte(0).writeByte(0);
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(3);
+        new MySQLPacketCodecEngine().encode(context, new MySQLEncodedPacketBatch(encodedPackets), byteBuf);
+        verify(context).write(encodedPackets);
+        assertThat(encodedPackets.getUnsignedByte(3), is((short) 3));
+        assertThat(encodedPackets.getUnsignedByte(9), is((short) 4));
+        assertThat(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().get(), is(5));
+    }
+    
     @Test
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLTextResultSetRowEncoderTest {
+    
+    @Test
+    void assertEncode() {
+        MySQLTextResultSetRowEncoder encoder = new MySQLTextResultSetRowEncoder(Arrays.asList(Types.BIGINT, Types.VARCHAR, Types.DECIMAL, Types.INTEGER));
+        MySQLTextResultSetRowPacket packet = new MySQLTextResultSetRowPacket(Arrays.asList(-123L, "中文value", new BigDecimal("1.50"), null));
+        ByteBuf expected = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        ByteBuf actual = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(actual, StandardCharsets.UTF_8);
+        int columnIndex = 0;
+        for (Object each : packet.getData()) {
+            encoder.encode(payload, columnIndex++, each);
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertEncodeWithUnexpectedValueType() {
+        MySQLTextResultSetRowEncoder encoder = new MySQLTextResultSetRowEncoder(Arrays.asList(Types.BIGINT, Types.VARCHAR));
+        ByteBuf actual = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(actual, StandardCharsets.ISO_8859_1);
+        encoder.encode(payload, 0, new BigDecimal("18446744073709551615"));
+        encoder.encode(payload, 1, "value");
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(Arrays.asList(new BigDecimal("18446744073709551615"), "value")).write(new MySQLPacketPayload(expected, StandardCharsets.ISO_8859_1));
+        assertThat(actual, is(expected));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBufUtil;
+import org.apache.shardingsphere.db.protocol.codec.DecimalTextUtils;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Data row encoder for PostgreSQL, which writes column values in text format into payload directly with value encoders chosen by column types.
+ */
+public final class PostgreSQLDataRowEncoder {
+    
+    private static final int NULL_LENGTH = 0xFFFFFFFF;
+    
+    private final ValueEncoder[] valueEncoders;
+    
+    public PostgreSQLDataRowEncoder(final List<Integer> columnTypes) {
+        valueEncoders = new ValueEncoder[columnTypes.size()];
+        int index = 0;
+        for (int each : columnTypes) {
+            valueEncoders[index++] = getValueEncoder(each);
+        }
+    }
+    
+    private ValueEncoder getValueEncoder(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return PostgreSQLDataRowEncoder::encodeIntegralValue;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return PostgreSQLDataRowEncoder::encodeStringValue;
+            default:
+                return PostgreSQLDataRowEncoder::encodeGenericValue;
+        }
+    }
+    
+    /**
+     * Encode column value.
+     *
+     * @param payload payload operation for PostgreSQL packet
+     * @param columnIndex column index, starts from 0
+     * @param value column value
+     */
+    public void encode(final PostgreSQLPacketPayload payload, final int columnIndex, final Object value) {
+        if (null == value) {
+            payload.writeInt4(NULL_LENGTH);
+            return;
+        }
+        valueEncoders[columnIndex].encode(payload, value);
+    }
+    
+    /**
+     * Encode column value in text format without column type.
+     *
+     * @param payload payload operation for PostgreSQL packet
+     * @param value column value
+     */
+    public static void encodeTextValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt4(NULL_LENGTH);
+            return;
+        }
+        encodeGenericValue(payload, value);
+    }
+    
+    private static void encodeIntegralValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            encodeGenericValue(payload, value);
+            return;
+        }
+        long integralValue = ((Number) value).longValue();
+        int length = DecimalTextUtils.getLength(integralValue);
+        payload.writeInt4(length);
+        DecimalTextUtils.write(payload.getByteBuf(), integralValue, length);
+    }
+    
+    private static void encodeStringValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (!(value instanceof String) || !StandardCharsets.UTF_8.equals(payload.getCharset())) {
+            encodeGenericValue(payload, value);
+            return;
+        }
+        int length = ByteBufUtil.utf8Bytes((String) value);
+        payload.writeInt4(length);
+        ByteBufUtil.reserveAndWriteUtf8(payload.getByteBuf(), (String) value, length);
+    }
+    
+    private static void encodeGenericValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeInt4(((byte[]) value).length);
+            payload.writeBytes((byte[]) value);
+        } else if (value instanceof SQLXML) {
+            encodeSQLXMLValue(payload, (SQLXML) value);
+        } else {
+            byte[] columnData = value.toString().getBytes(payload.getCharset());
+            payload.writeInt4(columnData.length);
+            payload.writeBytes(columnData);
+        }
+    }
+    
+    private static void encodeSQLXMLValue(final PostgreSQLPacketPayload payload, final SQLXML value) {
+        try {
+            byte[] dataBytes = value.getString().getBytes(payload.getCharset());
+            payload.writeInt4(dataBytes.length);
+            payload.writeBytes(dataBytes);
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private interface ValueEncoder {
+        
+        void encode(PostgreSQLPacketPayload payload, Object value);
+    }
+}
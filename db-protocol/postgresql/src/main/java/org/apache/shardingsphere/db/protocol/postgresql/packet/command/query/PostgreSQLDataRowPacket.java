@@ -27,8 +27,6 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
-import java.sql.SQLException;
-import java.sql.SQLXML;
 import java.util.Collection;
 
 /**
@@ -47,7 +45,7 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
             if (each instanceof BinaryCell) {
                 writeBinaryValue(payload, (BinaryCell) each);
             } else {
-                writeTextValue(payload, each);
+                PostgreSQLDataRowEncoder.encodeTextValue(payload, each);
             }
         }
     }
@@ -63,31 +61,6 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         binaryProtocolValue.write(payload, value);
     }
     
-    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
-        if (null == each) {
-            payload.writeInt4(0xFFFFFFFF);
-        } else if (each instanceof byte[]) {
-            payload.writeInt4(((byte[]) each).length);
-            payload.writeBytes((byte[]) each);
-        } else if (each instanceof SQLXML) {
-            writeSQLXMLData(payload, each);
-        } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
-        }
-    }
-    
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
-        try {
-            byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
-            payload.writeInt4(dataBytes.length);
-            payload.writeBytes(dataBytes);
-        } catch (final SQLException ex) {
-            throw new IllegalStateException(ex);
-        }
-    }
-    
     @Override
     public PostgreSQLIdentifierTag getIdentifier() {
         return PostgreSQLMessagePacketType.DATA_ROW;
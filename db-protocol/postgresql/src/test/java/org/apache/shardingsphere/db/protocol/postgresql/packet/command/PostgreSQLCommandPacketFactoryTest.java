@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLComTerminationPacket;
@@ -79,6 +82,25 @@ class PostgreSQLCommandPacketFactoryTest {
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.FLUSH_COMMAND, payload), instanceOf(PostgreSQLAggregatedCommandPacket.class));
     }
     
+    @Test
+    void assertNewInstanceWithCopyDataComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        when(payload.readInt4()).thenReturn(4);
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DATA, payload), instanceOf(PostgreSQLComCopyDataPacket.class));
+    }
+    
+    @Test
+    void assertNewInstanceWithCopyDoneComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DONE, payload), instanceOf(PostgreSQLComCopyDonePacket.class));
+    }
+    
+    @Test
+    void assertNewInstanceWithCopyFailComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_FAIL, payload), instanceOf(PostgreSQLComCopyFailPacket.class));
+    }
+    
     @Test
     void assertNewInstanceWithTerminationComPacket() {
         when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLDataRowEncoderTest {
+    
+    @Test
+    void assertEncode() {
+        PostgreSQLDataRowEncoder encoder = new PostgreSQLDataRowEncoder(Arrays.asList(Types.INTEGER, Types.VARCHAR, Types.NUMERIC, Types.BIGINT, Types.SMALLINT));
+        Collection<Object> data = Arrays.asList(Integer.MIN_VALUE, "中文value", new BigDecimal("1.50"), null, new BigDecimal("7"));
+        ByteBuf expected = Unpooled.buffer();
+        new PostgreSQLDataRowPacket(data).write(new PostgreSQLPacketPayload(expected, StandardCharsets.UTF_8));
+        ByteBuf actual = Unpooled.buffer();
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(actual, StandardCharsets.UTF_8);
+        payload.writeInt2(data.size());
+        int columnIndex = 0;
+        for (Object each : data) {
+            encoder.encode(payload, columnIndex++, each);
+        }
+        assertThat(actual, is(expected));
+    }
+}
@@ -54,7 +54,8 @@ class PostgreSQLCommandCompletePacketTest {
             return Stream.of(
                     Arguments.of("SELECT", " "),
                     Arguments.of("INSERT", " 0 "),
-                    Arguments.of("MOVE", " "));
+                    Arguments.of("MOVE", " "),
+                    Arguments.of("COPY", " "));
         }
     }
 }
@@ -39,6 +39,8 @@ public final class EncryptColumnRuleConfiguration {
     
     private EncryptColumnItemRuleConfiguration likeQuery;
     
+    private int valueCacheSize;
+    
     /**
      * Get assisted query.
      *
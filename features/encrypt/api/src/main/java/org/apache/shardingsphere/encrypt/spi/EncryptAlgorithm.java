@@ -36,4 +36,13 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm {
      * @return cipher value
      */
     O encrypt(I plainValue, EncryptContext encryptContext);
+    
+    /**
+     * Judge whether encrypt algorithm always produces the same cipher value for the same plain value.
+     *
+     * @return is deterministic or not
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
 }
@@ -42,6 +42,11 @@ public final class MD5AssistedEncryptAlgorithm implements AssistedEncryptAlgorit
         return null == plainValue ? null : DigestUtils.md5Hex(plainValue + salt);
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "MD5";
@@ -39,9 +39,12 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     
     private byte[] key;
     
+    private int[] initialSBox;
+    
     @Override
     public void init(final Properties props) {
         key = getKey(props);
+        initialSBox = getSBox();
     }
     
     private byte[] getKey(final Properties props) {
@@ -65,7 +68,7 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        int[] sBox = getSBox();
+        int[] sBox = initialSBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -101,6 +104,11 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         sBox[j] = temp;
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "RC4";
@@ -19,12 +19,17 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.exception.metadata.MissingEncryptorException;
+import org.apache.shardingsphere.encrypt.rule.EncryptValueCache;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +42,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<ColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -44,16 +51,24 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
-        if (!encryptContext.isPresent()) {
+        Optional<ColumnDecryptor> columnDecryptor = columnDecryptors.computeIfAbsent(columnIndex, this::findColumnDecryptor);
+        if (!columnDecryptor.isPresent()) {
             return mergedResult.getValue(columnIndex, type);
         }
-        if (metaData.getEncryptRule().findEncryptTable(encryptContext.get().getTableName()).map(optional -> optional.isEncryptColumn(encryptContext.get().getColumnName())).orElse(false)) {
-            Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-            return metaData.getEncryptRule().decrypt(
-                    encryptContext.get().getDatabaseName(), encryptContext.get().getSchemaName(), encryptContext.get().getTableName(), encryptContext.get().getColumnName(), cipherValue);
+        return columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class));
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
+        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
+        if (!encryptContext.isPresent()
+                || !metaData.getEncryptRule().findEncryptTable(encryptContext.get().getTableName()).map(optional -> optional.isEncryptColumn(encryptContext.get().getColumnName())).orElse(false)) {
+            return Optional.empty();
         }
-        return mergedResult.getValue(columnIndex, type);
+        String tableName = encryptContext.get().getTableName();
+        String columnName = encryptContext.get().getColumnName();
+        StandardEncryptAlgorithm encryptor = metaData.getEncryptRule().findStandardEncryptor(tableName, columnName).orElseThrow(() -> new MissingEncryptorException(tableName, columnName, "STANDARD"));
+        return Optional.of(new ColumnDecryptor(encryptContext.get(), encryptor, metaData.getEncryptRule().findValueCache(tableName, columnName).orElse(null)));
     }
     
     @Override
@@ -75,4 +90,28 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final EncryptContext encryptContext;
+        
+        @SuppressWarnings("rawtypes")
+        private final StandardEncryptAlgorithm encryptor;
+        
+        private final EncryptValueCache valueCache;
+        
+        @SuppressWarnings("unchecked")
+        Object decrypt(final Object cipherValue) {
+            if (null == cipherValue) {
+                return null;
+            }
+            return null == valueCache ? encryptor.decrypt(cipherValue, encryptContext) : valueCache.getPlainValue(cipherValue, each -> encryptor.decrypt(each, encryptContext));
+        }
+    }
 }
@@ -38,6 +38,8 @@ import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -65,11 +67,14 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     
     private final TableNamesMapper tableNamesMapper = new TableNamesMapper();
     
+    private final Map<String, EncryptValueCache> valueCaches = new HashMap<>();
+    
     public EncryptRule(final EncryptRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         ruleConfig.getEncryptors().forEach((key, value) -> putAllEncryptors(key, TypedSPILoader.getService(EncryptAlgorithm.class, value.getType(), value.getProps())));
         for (EncryptTableRuleConfiguration each : ruleConfig.getTables()) {
             each.getColumns().forEach(this::checkEncryptAlgorithmType);
+            each.getColumns().forEach(optional -> putValueCache(each.getName(), optional));
             tables.put(each.getName().toLowerCase(), new EncryptTable(each));
             tableNamesMapper.put(each.getName());
         }
@@ -86,6 +91,7 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
         ruleConfig.getEncryptors().forEach((key, value) -> putAllEncryptors(key, TypedSPILoader.getService(EncryptAlgorithm.class, value.getType(), value.getProps())));
         for (EncryptTableRuleConfiguration each : ruleConfig.getTables()) {
             each.getColumns().forEach(this::checkEncryptAlgorithmType);
+            each.getColumns().forEach(optional -> putValueCache(each.getName(), optional));
             tables.put(each.getName().toLowerCase(), new EncryptTable(each));
             tableNamesMapper.put(each.getName());
         }
@@ -113,6 +119,21 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
                 () -> new MismatchedEncryptAlgorithmTypeException("Assisted query", optional.getEncryptorName(), AssistedEncryptAlgorithm.class.getSimpleName())));
     }
     
+    private void putValueCache(final String tableName, final EncryptColumnRuleConfiguration columnRuleConfig) {
+        if (columnRuleConfig.getValueCacheSize() <= 0) {
+            return;
+        }
+        boolean cipherCacheable = standardEncryptors.get(columnRuleConfig.getCipher().getEncryptorName()).isDeterministic();
+        boolean assistedQueryCacheable = columnRuleConfig.getAssistedQuery().map(optional -> assistedEncryptors.get(optional.getEncryptorName()).isDeterministic()).orElse(false);
+        if (cipherCacheable || assistedQueryCacheable) {
+            valueCaches.put(getValueCacheKey(tableName, columnRuleConfig.getName()), new EncryptValueCache(columnRuleConfig.getValueCacheSize(), cipherCacheable, assistedQueryCacheable));
+        }
+    }
+    
+    private String getValueCacheKey(final String tableName, final String logicColumnName) {
+        return tableName.toLowerCase() + "." + logicColumnName.toLowerCase();
+    }
+    
     /**
      * Find encrypt table.
      * 
@@ -145,13 +166,12 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @param originalValue original value
      * @return encrypted value
      */
-    @SuppressWarnings("unchecked")
     public Object encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final Object originalValue) {
         if (null == originalValue) {
             return null;
         }
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return getStandardEncryptor(tableName, logicColumnName).encrypt(originalValue, context);
+        return encrypt(getStandardEncryptor(tableName, logicColumnName), findValueCache(tableName, logicColumnName).orElse(null), originalValue, context);
     }
     
     /**
@@ -166,18 +186,22 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return encrypt(getStandardEncryptor(tableName, logicColumnName), originalValues, context);
+        return encrypt(getStandardEncryptor(tableName, logicColumnName), findValueCache(tableName, logicColumnName).orElse(null), originalValues, context);
     }
     
-    @SuppressWarnings("unchecked")
-    private List<Object> encrypt(@SuppressWarnings("rawtypes") final StandardEncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext context) {
+    private List<Object> encrypt(@SuppressWarnings("rawtypes") final StandardEncryptAlgorithm encryptor, final EncryptValueCache valueCache, final List<Object> originalValues, final EncryptContext context) {
         List<Object> result = new LinkedList<>();
         for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, context));
+            result.add(null == each ? null : encrypt(encryptor, valueCache, each, context));
         }
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    private Object encrypt(@SuppressWarnings("rawtypes") final StandardEncryptAlgorithm encryptor, final EncryptValueCache valueCache, final Object originalValue, final EncryptContext context) {
+        return null == valueCache ? encryptor.encrypt(originalValue, context) : valueCache.getCipherValue(originalValue, each -> encryptor.encrypt(each, context));
+    }
+    
     /**
      * Decrypt.
      *
@@ -188,19 +212,52 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @param cipherValue cipher value
      * @return decrypted value
      */
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public Object decrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final Object cipherValue) {
         if (null == cipherValue) {
             return null;
         }
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return getStandardEncryptor(tableName, logicColumnName).decrypt(cipherValue, context);
+        StandardEncryptAlgorithm encryptor = getStandardEncryptor(tableName, logicColumnName);
+        Optional<EncryptValueCache> valueCache = findValueCache(tableName, logicColumnName);
+        return valueCache.isPresent() ? valueCache.get().getPlainValue(cipherValue, each -> encryptor.decrypt(each, context)) : encryptor.decrypt(cipherValue, context);
     }
     
     @SuppressWarnings("rawtypes")
     private StandardEncryptAlgorithm getStandardEncryptor(final String tableName, final String logicColumnName) {
-        return findEncryptTable(tableName).flatMap(optional -> optional.findEncryptorName(logicColumnName).map(standardEncryptors::get))
-                .orElseThrow(() -> new MissingEncryptorException(tableName, logicColumnName, "STANDARD"));
+        return findStandardEncryptor(tableName, logicColumnName).orElseThrow(() -> new MissingEncryptorException(tableName, logicColumnName, "STANDARD"));
+    }
+    
+    /**
+     * Find standard encryptor.
+     *
+     * @param tableName table name
+     * @param logicColumnName logic column name
+     * @return found standard encryptor
+     */
+    @SuppressWarnings("rawtypes")
+    public Optional<StandardEncryptAlgorithm> findStandardEncryptor(final String tableName, final String logicColumnName) {
+        return findEncryptTable(tableName).flatMap(optional -> optional.findEncryptorName(logicColumnName).map(standardEncryptors::get));
+    }
+    
+    /**
+     * Find encrypt value cache.
+     *
+     * @param tableName table name
+     * @param logicColumnName logic column name
+     * @return found encrypt value cache
+     */
+    public Optional<EncryptValueCache> findValueCache(final String tableName, final String logicColumnName) {
+        return valueCaches.isEmpty() ? Optional.empty() : Optional.ofNullable(valueCaches.get(getValueCacheKey(tableName, logicColumnName)));
+    }
+    
+    /**
+     * Get encrypt value caches.
+     *
+     * @return encrypt value caches, key is lower case logic table name and logic column name joined by dot
+     */
+    public Map<String, EncryptValueCache> getValueCaches() {
+        return Collections.unmodifiableMap(valueCaches);
     }
     
     /**
@@ -213,13 +270,12 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      * @param originalValue original value
      * @return assisted query values
      */
-    @SuppressWarnings("unchecked")
     public Object getEncryptAssistedQueryValue(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final Object originalValue) {
         if (null == originalValue) {
             return null;
         }
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return getAssistedQueryEncryptor(tableName, logicColumnName).encrypt(originalValue, context);
+        return getEncryptAssistedQueryValue(getAssistedQueryEncryptor(tableName, logicColumnName), findValueCache(tableName, logicColumnName).orElse(null), originalValue, context);
     }
     
     /**
@@ -234,19 +290,26 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
      */
     public List<Object> getEncryptAssistedQueryValues(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return getEncryptAssistedQueryValues(getAssistedQueryEncryptor(tableName, logicColumnName), originalValues, context);
+        return getEncryptAssistedQueryValues(getAssistedQueryEncryptor(tableName, logicColumnName), findValueCache(tableName, logicColumnName).orElse(null), originalValues, context);
     }
     
-    @SuppressWarnings("unchecked")
-    private List<Object> getEncryptAssistedQueryValues(@SuppressWarnings("rawtypes") final AssistedEncryptAlgorithm assistedQueryEncryptor,
+    private List<Object> getEncryptAssistedQueryValues(@SuppressWarnings("rawtypes") final AssistedEncryptAlgorithm assistedQueryEncryptor, final EncryptValueCache valueCache,
                                                        final List<Object> originalValues, final EncryptContext context) {
         List<Object> result = new LinkedList<>();
         for (Object each : originalValues) {
-            result.add(null == each ? null : assistedQueryEncryptor.encrypt(each, context));
+            result.add(null == each ? null : getEncryptAssistedQueryValue(assistedQueryEncryptor, valueCache, each, context));
         }
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    private Object getEncryptAssistedQueryValue(@SuppressWarnings("rawtypes") final AssistedEncryptAlgorithm assistedQueryEncryptor, final EncryptValueCache valueCache,
+                                                final Object originalValue, final EncryptContext context) {
+        return null == valueCache
+                ? assistedQueryEncryptor.encrypt(originalValue, context)
+                : valueCache.getAssistedQueryValue(originalValue, each -> assistedQueryEncryptor.encrypt(each, context));
+    }
+    
     @SuppressWarnings("rawtypes")
     private AssistedEncryptAlgorithm getAssistedQueryEncryptor(final String tableName, final String logicColumnName) {
         return findEncryptTable(tableName).flatMap(optional -> optional.findAssistedQueryEncryptorName(logicColumnName).map(assistedEncryptors::get))
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Encrypt value cache of encrypt column.
+ * 
+ * <p>Only values of deterministic encrypt algorithms are cached, and only immutable values are used as keys.</p>
+ */
+public final class EncryptValueCache {
+    
+    private static final long ENTRY_OVERHEAD_BYTES = 64L;
+    
+    private static final long STRING_OVERHEAD_BYTES = 40L;
+    
+    private static final long VALUE_BYTES = 16L;
+    
+    private final boolean cipherCacheable;
+    
+    private final boolean assistedQueryCacheable;
+    
+    private final Cache<Object, Object> cipherValues;
+    
+    private final Cache<Object, Object> plainValues;
+    
+    private final Cache<Object, Object> assistedQueryValues;
+    
+    private final LongAdder estimatedBytes = new LongAdder();
+    
+    public EncryptValueCache(final int maxSize, final boolean cipherCacheable, final boolean assistedQueryCacheable) {
+        this.cipherCacheable = cipherCacheable;
+        this.assistedQueryCacheable = assistedQueryCacheable;
+        cipherValues = buildValueCache(maxSize);
+        plainValues = buildValueCache(maxSize);
+        assistedQueryValues = buildValueCache(maxSize);
+    }
+    
+    private Cache<Object, Object> buildValueCache(final int maxSize) {
+        RemovalListener<Object, Object> removalListener = (key, value, cause) -> estimatedBytes.add(-estimateBytes(key, value));
+        return Caffeine.newBuilder().maximumSize(maxSize).recordStats().removalListener(removalListener).build();
+    }
+    
+    /**
+     * Get cipher value.
+     *
+     * @param plainValue plain value
+     * @param encryptor encryptor to load cipher value when cache missed
+     * @return cipher value
+     */
+    public Object getCipherValue(final Object plainValue, final Function<Object, Object> encryptor) {
+        return cipherCacheable ? get(cipherValues, plainValue, encryptor) : encryptor.apply(plainValue);
+    }
+    
+    /**
+     * Get plain value.
+     *
+     * @param cipherValue cipher value
+     * @param decryptor decryptor to load plain value when cache missed
+     * @return plain value
+     */
+    public Object getPlainValue(final Object cipherValue, final Function<Object, Object> decryptor) {
+        return cipherCacheable ? get(plainValues, cipherValue, decryptor) : decryptor.apply(cipherValue);
+    }
+    
+    /**
+     * Get assisted query value.
+     *
+     * @param plainValue plain value
+     * @param assistedQueryEncryptor assisted query encryptor to load assisted query value when cache missed
+     * @return assisted query value
+     */
+    public Object getAssistedQueryValue(final Object plainValue, final Function<Object, Object> assistedQueryEncryptor) {
+        return assistedQueryCacheable ? get(assistedQueryValues, plainValue, assistedQueryEncryptor) : assistedQueryEncryptor.apply(plainValue);
+    }
+    
+    private Object get(final Cache<Object, Object> values, final Object key, final Function<Object, Object> loader) {
+        if (!isCacheableValue(key)) {
+            return loader.apply(key);
+        }
+        Object result = values.getIfPresent(key);
+        if (null != result) {
+            return result;
+        }
+        result = loader.apply(key);
+        if (isCacheableValue(result)) {
+            estimatedBytes.add(estimateBytes(key, result));
+            values.put(key, result);
+        }
+        return result;
+    }
+    
+    private boolean isCacheableValue(final Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+    
+    private long estimateBytes(final Object key, final Object value) {
+        return ENTRY_OVERHEAD_BYTES + estimateBytes(key) + estimateBytes(value);
+    }
+    
+    private long estimateBytes(final Object value) {
+        return value instanceof String ? STRING_OVERHEAD_BYTES + 2L * ((String) value).length() : VALUE_BYTES;
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return getValueCaches().stream().map(Cache::stats).mapToLong(CacheStats::hitCount).sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return getValueCaches().stream().map(Cache::stats).mapToLong(CacheStats::missCount).sum();
+    }
+    
+    /**
+     * Get hit rate.
+     *
+     * @return hit rate, 0 if cache never accessed
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return 0L == total ? 0D : (double) hits / total;
+    }
+    
+    /**
+     * Get estimated bytes of cached entries.
+     *
+     * @return estimated bytes
+     */
+    public long getEstimatedBytes() {
+        return Math.max(estimatedBytes.sum(), 0L);
+    }
+    
+    /**
+     * Get size of cached entries.
+     * 
+     * <p>Pending evictions are performed before counting.</p>
+     *
+     * @return size of cached entries
+     */
+    public long size() {
+        long result = 0L;
+        for (Cache<Object, Object> each : getValueCaches()) {
+            each.cleanUp();
+            result += each.estimatedSize();
+        }
+        return result;
+    }
+    
+    private Collection<Cache<Object, Object>> getValueCaches() {
+        return Arrays.asList(cipherValues, plainValues, assistedQueryValues);
+    }
+}
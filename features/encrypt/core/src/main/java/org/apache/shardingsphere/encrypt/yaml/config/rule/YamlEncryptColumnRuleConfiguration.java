@@ -35,4 +35,6 @@ public final class YamlEncryptColumnRuleConfiguration implements YamlConfigurati
     private YamlEncryptColumnItemRuleConfiguration assistedQuery;
     
     private YamlEncryptColumnItemRuleConfiguration likeQuery;
+    
+    private Integer valueCacheSize;
 }
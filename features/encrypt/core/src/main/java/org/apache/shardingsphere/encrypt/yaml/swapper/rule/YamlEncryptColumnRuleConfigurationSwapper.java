@@ -35,6 +35,9 @@ public final class YamlEncryptColumnRuleConfigurationSwapper implements YamlConf
         result.setCipher(columnItemSwapper.swapToYamlConfiguration(data.getCipher()));
         data.getLikeQuery().ifPresent(optional -> result.setLikeQuery(columnItemSwapper.swapToYamlConfiguration(optional)));
         data.getAssistedQuery().ifPresent(optional -> result.setAssistedQuery(columnItemSwapper.swapToYamlConfiguration(optional)));
+        if (data.getValueCacheSize() > 0) {
+            result.setValueCacheSize(data.getValueCacheSize());
+        }
         return result;
     }
     
@@ -47,6 +50,9 @@ public final class YamlEncryptColumnRuleConfigurationSwapper implements YamlConf
         if (null != yamlConfig.getLikeQuery()) {
             result.setLikeQuery(columnItemSwapper.swapToObject(yamlConfig.getLikeQuery()));
         }
+        if (null != yamlConfig.getValueCacheSize()) {
+            result.setValueCacheSize(yamlConfig.getValueCacheSize());
+        }
         return result;
     }
 }
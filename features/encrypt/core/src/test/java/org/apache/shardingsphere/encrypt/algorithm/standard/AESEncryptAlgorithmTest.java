@@ -95,6 +95,13 @@ class AESEncryptAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    void assertDecryptRepeatedlyAfterInvalidCipherValue() {
+        assertThrows(Exception.class, () -> encryptAlgorithm.decrypt("dSpPiyENQGDUXMKF", mock(EncryptContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
@@ -17,9 +17,15 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -33,13 +39,16 @@ import java.util.Optional;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class EncryptMergedResultTest {
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private EncryptAlgorithmMetaData metaData;
     
     @Mock
@@ -57,6 +66,27 @@ class EncryptMergedResultTest {
         assertThat(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class), is("VALUE"));
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    void assertGetValueWithEncryptColumnResolvedOnce() throws SQLException {
+        EncryptContext encryptContext = EncryptContextBuilder.build("foo_db", "foo_schema", "t_user", "user_name");
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.of(encryptContext));
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("user_name")).thenReturn(true);
+        EncryptRule encryptRule = metaData.getEncryptRule();
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        StandardEncryptAlgorithm encryptor = mock(StandardEncryptAlgorithm.class);
+        when(encryptor.decrypt("CIPHER_1", encryptContext)).thenReturn("PLAIN_1");
+        when(encryptor.decrypt("CIPHER_2", encryptContext)).thenReturn("PLAIN_2");
+        when(encryptRule.findStandardEncryptor("t_user", "user_name")).thenReturn(Optional.of(encryptor));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("CIPHER_1", "CIPHER_2", null);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("PLAIN_1"));
+        assertThat(actual.getValue(1, String.class), is("PLAIN_2"));
+        assertNull(actual.getValue(1, String.class));
+        verify(metaData, times(1)).findEncryptContext(1);
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.encrypt.exception.algorithm.MismatchedEncryptAl
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptTableNotFoundException;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -38,11 +40,13 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -91,6 +95,36 @@ class EncryptRuleTest {
         }
     }
     
+    @Test
+    void assertFindValueCacheWithNonDeterministicEncryptor() {
+        EncryptColumnRuleConfiguration pwdColumnConfig = createEncryptColumnRuleConfiguration("standard_encryptor", "assisted_encryptor", "like_encryptor");
+        pwdColumnConfig.setValueCacheSize(10);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(pwdColumnConfig));
+        EncryptRule actual = new EncryptRule(new EncryptRuleConfiguration(Collections.singleton(tableConfig), getEncryptors(new AlgorithmConfiguration("CORE.FIXTURE", new Properties()),
+                new AlgorithmConfiguration("CORE.QUERY_ASSISTED.FIXTURE", new Properties()), new AlgorithmConfiguration("CORE.QUERY_LIKE.FIXTURE", new Properties()))));
+        assertFalse(actual.findValueCache("t_encrypt", "pwd").isPresent());
+    }
+    
+    @Test
+    void assertEncryptAndDecryptWithValueCache() {
+        EncryptColumnRuleConfiguration pwdColumnConfig = createEncryptColumnRuleConfiguration("standard_encryptor", "assisted_encryptor", "like_encryptor");
+        pwdColumnConfig.setValueCacheSize(10);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(pwdColumnConfig));
+        EncryptRule actual = new EncryptRule(new EncryptRuleConfiguration(Collections.singleton(tableConfig),
+                getEncryptors(new AlgorithmConfiguration("AES", PropertiesBuilder.build(new Property("aes-key-value", "test"))),
+                        new AlgorithmConfiguration("MD5", new Properties()), new AlgorithmConfiguration("CORE.QUERY_LIKE.FIXTURE", new Properties()))));
+        Optional<EncryptValueCache> valueCache = actual.findValueCache("T_ENCRYPT", "PWD");
+        assertTrue(valueCache.isPresent());
+        assertThat(actual.encrypt(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd", "test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(actual.encrypt(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd", Collections.singletonList("test")), is(Collections.singletonList("dSpPiyENQGDUXMKFMJPGWA==")));
+        assertThat(actual.decrypt(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd", "dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+        assertThat(actual.getEncryptAssistedQueryValue(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd", "test"), is("098f6bcd4621d373cade4e832627b4f6"));
+        assertThat(actual.getEncryptAssistedQueryValue(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "pwd", "test"), is("098f6bcd4621d373cade4e832627b4f6"));
+        assertThat(valueCache.get().getHitCount(), is(2L));
+        assertThat(valueCache.get().getMissCount(), is(3L));
+        assertThat(valueCache.get().size(), is(3L));
+    }
+    
     @Test
     void assertGetTables() {
         assertThat(new LinkedList<>(new EncryptRule(createEncryptRuleConfiguration()).getLogicTableMapper().getTableNames()), is(Collections.singletonList("t_encrypt")));
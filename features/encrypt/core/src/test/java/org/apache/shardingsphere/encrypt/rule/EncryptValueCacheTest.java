@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EncryptValueCacheTest {
+    
+    @Test
+    void assertGetCipherValueWithCacheHit() {
+        EncryptValueCache valueCache = new EncryptValueCache(10, true, true);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Object, Object> encryptor = each -> "cipher_" + each + "_" + loadCount.incrementAndGet();
+        assertThat(valueCache.getCipherValue("foo", encryptor), is("cipher_foo_1"));
+        assertThat(valueCache.getCipherValue("foo", encryptor), is("cipher_foo_1"));
+        assertThat(loadCount.get(), is(1));
+        assertThat(valueCache.getHitCount(), is(1L));
+        assertThat(valueCache.getMissCount(), is(1L));
+        assertThat(valueCache.getHitRate(), is(0.5D));
+        assertThat(valueCache.size(), is(1L));
+        assertThat(valueCache.getEstimatedBytes(), is(174L));
+    }
+    
+    @Test
+    void assertGetPlainValueWithEviction() {
+        EncryptValueCache valueCache = new EncryptValueCache(2, true, false);
+        Function<Object, Object> decryptor = each -> "plain_" + each;
+        for (String each : new String[]{"a", "b", "c", "d"}) {
+            assertThat(valueCache.getPlainValue(each, decryptor), is("plain_" + each));
+        }
+        assertThat(valueCache.size(), is(2L));
+        assertThat(valueCache.getMissCount(), is(4L));
+    }
+    
+    @Test
+    void assertGetAssistedQueryValueWithoutCacheable() {
+        EncryptValueCache valueCache = new EncryptValueCache(10, true, false);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Object, Object> assistedQueryEncryptor = each -> "assisted_" + loadCount.incrementAndGet();
+        valueCache.getAssistedQueryValue("foo", assistedQueryEncryptor);
+        assertThat(valueCache.getAssistedQueryValue("foo", assistedQueryEncryptor), is("assisted_2"));
+        assertThat(valueCache.size(), is(0L));
+        assertThat(valueCache.getMissCount(), is(0L));
+    }
+    
+    @Test
+    void assertGetCipherValueWithMutableKey() {
+        EncryptValueCache valueCache = new EncryptValueCache(10, true, true);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Object, Object> encryptor = each -> "cipher_" + loadCount.incrementAndGet();
+        byte[] plainValue = new byte[]{1};
+        valueCache.getCipherValue(plainValue, encryptor);
+        assertThat(valueCache.getCipherValue(plainValue, encryptor), is("cipher_2"));
+        assertThat(valueCache.size(), is(0L));
+    }
+}
@@ -35,12 +35,14 @@ class YamlEncryptColumnRuleConfigurationSwapperTest {
         EncryptColumnRuleConfiguration encryptColumnRuleConfig = new EncryptColumnRuleConfiguration("logicColumn", new EncryptColumnItemRuleConfiguration("cipherColumn", "encryptorName"));
         encryptColumnRuleConfig.setAssistedQuery(new EncryptColumnItemRuleConfiguration("assistedQueryColumn"));
         encryptColumnRuleConfig.setLikeQuery(new EncryptColumnItemRuleConfiguration("likeQueryColumn"));
+        encryptColumnRuleConfig.setValueCacheSize(100);
         YamlEncryptColumnRuleConfiguration actual = swapper.swapToYamlConfiguration(encryptColumnRuleConfig);
         assertThat(actual.getName(), is("logicColumn"));
         assertThat(actual.getCipher().getName(), is("cipherColumn"));
         assertThat(actual.getCipher().getEncryptorName(), is("encryptorName"));
         assertThat(actual.getAssistedQuery().getName(), is("assistedQueryColumn"));
         assertThat(actual.getLikeQuery().getName(), is("likeQueryColumn"));
+        assertThat(actual.getValueCacheSize(), is(100));
     }
     
     @Test
@@ -54,6 +56,7 @@ class YamlEncryptColumnRuleConfigurationSwapperTest {
         assertTrue(actual.getLikeQuery().isPresent());
         assertThat(actual.getLikeQuery().get().getName(), is("likeQueryColumn"));
         assertThat(actual.getCipher().getEncryptorName(), is("encryptorName"));
+        assertThat(actual.getValueCacheSize(), is(100));
     }
     
     private YamlEncryptColumnRuleConfiguration buildYamlEncryptColumnRuleConfiguration() {
@@ -69,6 +72,7 @@ class YamlEncryptColumnRuleConfigurationSwapperTest {
         YamlEncryptColumnItemRuleConfiguration likeQueryColumnConfig = new YamlEncryptColumnItemRuleConfiguration();
         likeQueryColumnConfig.setName("likeQueryColumn");
         result.setLikeQuery(likeQueryColumnConfig);
+        result.setValueCacheSize(100);
         return result;
     }
 }
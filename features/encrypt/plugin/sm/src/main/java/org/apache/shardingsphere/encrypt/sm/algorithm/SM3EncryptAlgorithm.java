@@ -84,6 +84,11 @@ public final class SM3EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         return result;
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "SM3";
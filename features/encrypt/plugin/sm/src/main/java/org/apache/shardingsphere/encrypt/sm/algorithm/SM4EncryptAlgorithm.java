@@ -139,6 +139,11 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         return cipher.doFinal(input);
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "SM4";
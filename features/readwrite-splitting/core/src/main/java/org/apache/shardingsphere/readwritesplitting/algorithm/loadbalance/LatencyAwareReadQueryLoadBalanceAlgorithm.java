@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReadDataSourceLatency;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReadDataSourceLatencyRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ * 
+ * <p>Picks the better of two random read data sources, scored by EWMA latency multiplied by outstanding requests.
+ * Read data sources slower than the max latency, or failed recently, are excluded until the exclusion recovery interval passes,
+ * then their samples are reset so they are probed again.</p>
+ */
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final String MAX_LATENCY_MILLISECONDS_KEY = "max-latency-milliseconds";
+    
+    private static final String EXCLUSION_RECOVERY_MILLISECONDS_KEY = "exclusion-recovery-milliseconds";
+    
+    private static final double MIN_LATENCY_MILLIS = 1D;
+    
+    @Getter
+    private final ReadDataSourceLatencyRegistry latencyRegistry = new ReadDataSourceLatencyRegistry();
+    
+    private double maxLatencyMillis;
+    
+    private long exclusionRecoveryMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        maxLatencyMillis = Double.parseDouble(props.getProperty(MAX_LATENCY_MILLISECONDS_KEY, "0"));
+        exclusionRecoveryMillis = Long.parseLong(props.getProperty(EXCLUSION_RECOVERY_MILLISECONDS_KEY, "5000"));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        if (1 == readDataSourceNames.size()) {
+            latencyRegistry.getOrRegister(readDataSourceNames.get(0));
+            return readDataSourceNames.get(0);
+        }
+        List<String> candidates = getCandidates(readDataSourceNames);
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(candidates.size());
+        int secondIndex = random.nextInt(candidates.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = candidates.get(firstIndex);
+        String second = candidates.get(secondIndex);
+        return getScore(first) <= getScore(second) ? first : second;
+    }
+    
+    private List<String> getCandidates(final List<String> readDataSourceNames) {
+        long currentMillis = System.currentTimeMillis();
+        List<String> result = new ArrayList<>(readDataSourceNames.size());
+        for (String each : readDataSourceNames) {
+            if (!isExcluded(latencyRegistry.getOrRegister(each), currentMillis)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? readDataSourceNames : result;
+    }
+    
+    private boolean isExcluded(final ReadDataSourceLatency latency, final long currentMillis) {
+        boolean lagging = maxLatencyMillis > 0D && latency.getEwmaLatencyMillis() > maxLatencyMillis;
+        boolean failed = 0L != latency.getLastFailureMillis();
+        if (failed && currentMillis - latency.getLastFailureMillis() < exclusionRecoveryMillis || lagging && currentMillis - latency.getLastSampleMillis() < exclusionRecoveryMillis) {
+            return true;
+        }
+        if (lagging || failed) {
+            latency.reset();
+        }
+        return false;
+    }
+    
+    private double getScore(final String dataSourceName) {
+        ReadDataSourceLatency latency = latencyRegistry.getOrRegister(dataSourceName);
+        return Math.max(latency.getEwmaLatencyMillis(), MIN_LATENCY_MILLIS) * (latency.getOutstandingRequests() + 1);
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
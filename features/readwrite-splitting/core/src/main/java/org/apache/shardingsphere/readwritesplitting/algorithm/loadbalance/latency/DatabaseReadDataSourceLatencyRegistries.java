@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read data source latency registries of databases.
+ * 
+ * <p>Registries are published by the readwrite-splitting rule of each database, and replaced when the rule is rebuilt,
+ * so that SQL execution hook can find latencies without mixing up same named storage units of different databases.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DatabaseReadDataSourceLatencyRegistries {
+    
+    private static final Map<String, Collection<ReadDataSourceLatencyRegistry>> REGISTRIES = new ConcurrentHashMap<>();
+    
+    /**
+     * Put read data source latency registries of database.
+     *
+     * @param databaseName database name
+     * @param registries read data source latency registries
+     */
+    public static void put(final String databaseName, final Collection<ReadDataSourceLatencyRegistry> registries) {
+        if (registries.isEmpty()) {
+            REGISTRIES.remove(databaseName.toLowerCase());
+        } else {
+            REGISTRIES.put(databaseName.toLowerCase(), registries);
+        }
+    }
+    
+    /**
+     * Remove read data source latency registries of database.
+     *
+     * @param databaseName database name
+     */
+    public static void remove(final String databaseName) {
+        REGISTRIES.remove(databaseName.toLowerCase());
+    }
+    
+    /**
+     * Find read data source latencies.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found read data source latencies
+     */
+    public static Collection<ReadDataSourceLatency> find(final String databaseName, final String dataSourceName) {
+        if (REGISTRIES.isEmpty() || null == databaseName) {
+            return Collections.emptyList();
+        }
+        Collection<ReadDataSourceLatencyRegistry> registries = REGISTRIES.get(databaseName.toLowerCase());
+        if (null == registries) {
+            return Collections.emptyList();
+        }
+        Collection<ReadDataSourceLatency> result = new LinkedList<>();
+        for (ReadDataSourceLatencyRegistry each : registries) {
+            each.find(dataSourceName).ifPresent(result::add);
+        }
+        return result;
+    }
+}
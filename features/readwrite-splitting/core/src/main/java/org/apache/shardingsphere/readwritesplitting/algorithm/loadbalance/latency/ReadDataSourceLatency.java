@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency statistics of read data source.
+ */
+public final class ReadDataSourceLatency {
+    
+    private static final double EWMA_WEIGHT = 0.2D;
+    
+    private static final long FAILURE_PENALTY_NANOS = 1000L * 1000000L;
+    
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    
+    private final AtomicLong ewmaLatencyNanosBits = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    private volatile long lastSampleMillis;
+    
+    private volatile long lastFailureMillis;
+    
+    /**
+     * Mark request started.
+     */
+    public void start() {
+        outstandingRequests.incrementAndGet();
+    }
+    
+    /**
+     * Mark request finished.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void finish(final long latencyNanos) {
+        outstandingRequests.decrementAndGet();
+        record(latencyNanos);
+    }
+    
+    /**
+     * Mark request failed.
+     * 
+     * <p>Failure is sampled as at least one second, so read data source failing fast is not preferred over slow healthy ones.</p>
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void fail(final long latencyNanos) {
+        outstandingRequests.decrementAndGet();
+        record(Math.max(latencyNanos, FAILURE_PENALTY_NANOS));
+        lastFailureMillis = System.currentTimeMillis();
+    }
+    
+    private void record(final long latencyNanos) {
+        long current;
+        double updated;
+        do {
+            current = ewmaLatencyNanosBits.get();
+            double previous = Double.longBitsToDouble(current);
+            updated = 0L == lastSampleMillis ? latencyNanos : previous + EWMA_WEIGHT * (latencyNanos - previous);
+        } while (!ewmaLatencyNanosBits.compareAndSet(current, Double.doubleToLongBits(updated)));
+        lastSampleMillis = System.currentTimeMillis();
+    }
+    
+    /**
+     * Reset sampled latency and failure, outstanding requests are kept.
+     */
+    public void reset() {
+        ewmaLatencyNanosBits.set(Double.doubleToLongBits(0D));
+        lastSampleMillis = 0L;
+        lastFailureMillis = 0L;
+    }
+    
+    /**
+     * Get outstanding requests.
+     *
+     * @return outstanding requests
+     */
+    public int getOutstandingRequests() {
+        return Math.max(outstandingRequests.get(), 0);
+    }
+    
+    /**
+     * Get EWMA latency in milliseconds.
+     *
+     * @return EWMA latency in milliseconds
+     */
+    public double getEwmaLatencyMillis() {
+        return Double.longBitsToDouble(ewmaLatencyNanosBits.get()) / 1000000D;
+    }
+    
+    /**
+     * Get last sample time in milliseconds.
+     *
+     * @return last sample time in milliseconds, 0 if never sampled
+     */
+    public long getLastSampleMillis() {
+        return lastSampleMillis;
+    }
+    
+    /**
+     * Get last failure time in milliseconds.
+     *
+     * @return last failure time in milliseconds, 0 if never failed
+     */
+    public long getLastFailureMillis() {
+        return lastFailureMillis;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read data source latency registry.
+ * 
+ * <p>Each latency aware load balancer holds its own registry, only read data sources it has balanced are tracked.</p>
+ */
+public final class ReadDataSourceLatencyRegistry {
+    
+    private final Map<String, ReadDataSourceLatency> latencies = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or register read data source latency.
+     *
+     * @param dataSourceName data source name
+     * @return read data source latency
+     */
+    public ReadDataSourceLatency getOrRegister(final String dataSourceName) {
+        ReadDataSourceLatency result = latencies.get(dataSourceName);
+        return null == result ? latencies.computeIfAbsent(dataSourceName, key -> new ReadDataSourceLatency()) : result;
+    }
+    
+    /**
+     * Find read data source latency.
+     *
+     * @param dataSourceName data source name
+     * @return found read data source latency
+     */
+    public Optional<ReadDataSourceLatency> find(final String dataSourceName) {
+        return latencies.isEmpty() ? Optional.empty() : Optional.ofNullable(latencies.get(dataSourceName));
+    }
+}
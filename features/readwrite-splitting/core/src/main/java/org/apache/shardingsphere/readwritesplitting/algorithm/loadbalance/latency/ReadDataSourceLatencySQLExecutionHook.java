@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read data source latency SQL execution hook.
+ */
+public final class ReadDataSourceLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private Collection<ReadDataSourceLatency> latencies = Collections.emptyList();
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread) {
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread) {
+        latencies = DatabaseReadDataSourceLatencyRegistries.find(databaseName, dataSourceName);
+        if (!latencies.isEmpty()) {
+            startNanos = System.nanoTime();
+            latencies.forEach(ReadDataSourceLatency::start);
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (!latencies.isEmpty()) {
+            long latencyNanos = System.nanoTime() - startNanos;
+            latencies.forEach(each -> each.finish(latencyNanos));
+            latencies = Collections.emptyList();
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (!latencies.isEmpty()) {
+            long latencyNanos = System.nanoTime() - startNanos;
+            latencies.forEach(each -> each.fail(latencyNanos));
+            latencies = Collections.emptyList();
+        }
+    }
+}
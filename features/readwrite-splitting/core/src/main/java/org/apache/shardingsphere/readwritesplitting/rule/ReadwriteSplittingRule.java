@@ -37,6 +37,9 @@ import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceDeletedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.LatencyAwareReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DatabaseReadDataSourceLatencyRegistries;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReadDataSourceLatencyRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
@@ -74,6 +77,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
         dataSourceRules = createDataSourceRules(ruleConfig);
+        DatabaseReadDataSourceLatencyRegistries.put(databaseName, getReadDataSourceLatencyRegistries());
     }
     
     private Map<String, ReadQueryLoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
@@ -87,6 +91,11 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         return result;
     }
     
+    private Collection<ReadDataSourceLatencyRegistry> getReadDataSourceLatencyRegistries() {
+        return loadBalancers.values().stream().filter(LatencyAwareReadQueryLoadBalanceAlgorithm.class::isInstance)
+                .map(each -> ((LatencyAwareReadQueryLoadBalanceAlgorithm) each).getLatencyRegistry()).collect(Collectors.toList());
+    }
+    
     private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, ReadwriteSplittingDataSourceRule> result = new HashMap<>(ruleConfig.getDataSources().size(), 1F);
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
@@ -184,6 +193,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (Entry<String, ReadwriteSplittingDataSourceRule> entry : dataSourceRules.entrySet()) {
             deleteStorageNodeDataSources(entry.getValue());
         }
+        DatabaseReadDataSourceLatencyRegistries.remove(databaseName);
     }
     
     @Override
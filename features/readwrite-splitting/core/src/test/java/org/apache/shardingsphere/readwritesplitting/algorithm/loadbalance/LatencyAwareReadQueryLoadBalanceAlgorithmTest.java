@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReadDataSourceLatency;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReadDataSourceLatencyRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetSingleReadDataSource() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", Collections.singletonList("latency_single_read_ds")), is("latency_single_read_ds"));
+        assertThat(loadBalanceAlgorithm.getLatencyRegistry().find("latency_single_read_ds").isPresent(), is(true));
+    }
+    
+    @Test
+    void assertGetDataSourceWithLowerLatency() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_fast_read_ds", 2L);
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_slow_read_ds", 200L);
+        List<String> readDataSourceNames = Arrays.asList("latency_fast_read_ds", "latency_slow_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", readDataSourceNames), is("latency_fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithFewerOutstandingRequests() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_idle_read_ds", 10L);
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_busy_read_ds", 10L);
+        ReadDataSourceLatency busyLatency = loadBalanceAlgorithm.getLatencyRegistry().getOrRegister("latency_busy_read_ds");
+        busyLatency.start();
+        busyLatency.start();
+        List<String> readDataSourceNames = Arrays.asList("latency_idle_read_ds", "latency_busy_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", readDataSourceNames), is("latency_idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithExcludedReadDataSource() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE",
+                PropertiesBuilder.build(new Property("max-latency-milliseconds", "50"), new Property("exclusion-recovery-milliseconds", "60000")));
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_lagging_read_ds", 500L);
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_normal_read_ds", 1L);
+        List<String> readDataSourceNames = Arrays.asList("latency_lagging_read_ds", "latency_normal_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", readDataSourceNames), is("latency_normal_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWhenAllReadDataSourcesExcluded() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE",
+                PropertiesBuilder.build(new Property("max-latency-milliseconds", "50"), new Property("exclusion-recovery-milliseconds", "60000")));
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_excluded_read_ds_0", 100L);
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_excluded_read_ds_1", 500L);
+        List<String> readDataSourceNames = Arrays.asList("latency_excluded_read_ds_0", "latency_excluded_read_ds_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", readDataSourceNames), is("latency_excluded_read_ds_0"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithFastFailingReadDataSource() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_slow_read_ds", 200L);
+        ReadDataSourceLatency failingLatency = loadBalanceAlgorithm.getLatencyRegistry().getOrRegister("latency_failing_read_ds");
+        failingLatency.start();
+        failingLatency.fail(1000000L);
+        List<String> readDataSourceNames = Arrays.asList("latency_failing_read_ds", "latency_slow_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", readDataSourceNames), is("latency_slow_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithRecentlyFailedReadDataSourceExcluded() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE",
+                PropertiesBuilder.build(new Property("exclusion-recovery-milliseconds", "60000")));
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_slow_read_ds", 5000L);
+        ReadDataSourceLatency failingLatency = loadBalanceAlgorithm.getLatencyRegistry().getOrRegister("latency_failing_read_ds");
+        failingLatency.start();
+        failingLatency.fail(1000000L);
+        List<String> readDataSourceNames = Arrays.asList("latency_failing_read_ds", "latency_slow_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", readDataSourceNames), is("latency_slow_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceAfterExclusionRecovered() throws InterruptedException {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE",
+                PropertiesBuilder.build(new Property("max-latency-milliseconds", "50"), new Property("exclusion-recovery-milliseconds", "1")));
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_recovered_read_ds", 500L);
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_normal_read_ds", 10L);
+        Thread.sleep(10L);
+        loadBalanceAlgorithm.getDataSource("ds", "latency_write_ds", Arrays.asList("latency_recovered_read_ds", "latency_normal_read_ds"));
+        ReadDataSourceLatency recoveredLatency = loadBalanceAlgorithm.getLatencyRegistry().getOrRegister("latency_recovered_read_ds");
+        assertThat(recoveredLatency.getLastSampleMillis(), is(0L));
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "latency_recovered_read_ds", 2L);
+        assertThat(recoveredLatency.getEwmaLatencyMillis(), is(2D));
+    }
+    
+    @Test
+    void assertLatenciesNotSharedBetweenAlgorithms() {
+        LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        LatencyAwareReadQueryLoadBalanceAlgorithm otherLoadBalanceAlgorithm = (LatencyAwareReadQueryLoadBalanceAlgorithm) TypedSPILoader.getService(
+                ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        recordLatency(loadBalanceAlgorithm.getLatencyRegistry(), "read_ds", 10L);
+        assertThat(loadBalanceAlgorithm.getLatencyRegistry().find("read_ds").isPresent(), is(true));
+        assertThat(otherLoadBalanceAlgorithm.getLatencyRegistry().find("read_ds").isPresent(), is(false));
+    }
+    
+    private void recordLatency(final ReadDataSourceLatencyRegistry latencyRegistry, final String dataSourceName, final long latencyMillis) {
+        ReadDataSourceLatency latency = latencyRegistry.getOrRegister(dataSourceName);
+        latency.start();
+        latency.finish(latencyMillis * 1000000L);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ReadDataSourceLatencySQLExecutionHookTest {
+    
+    @AfterEach
+    void tearDown() {
+        DatabaseReadDataSourceLatencyRegistries.remove("foo_db");
+    }
+    
+    @Test
+    void assertFinishSuccessWithRegisteredDatabase() {
+        ReadDataSourceLatencyRegistry registry = new ReadDataSourceLatencyRegistry();
+        ReadDataSourceLatency latency = registry.getOrRegister("read_ds");
+        DatabaseReadDataSourceLatencyRegistries.put("foo_db", Collections.singleton(registry));
+        ReadDataSourceLatencySQLExecutionHook hook = new ReadDataSourceLatencySQLExecutionHook();
+        hook.start("foo_db", "read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(latency.getOutstandingRequests(), is(1));
+        hook.finishSuccess();
+        assertThat(latency.getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    void assertFinishFailureWithRegisteredDatabase() {
+        ReadDataSourceLatencyRegistry registry = new ReadDataSourceLatencyRegistry();
+        ReadDataSourceLatency latency = registry.getOrRegister("read_ds");
+        DatabaseReadDataSourceLatencyRegistries.put("foo_db", Collections.singleton(registry));
+        ReadDataSourceLatencySQLExecutionHook hook = new ReadDataSourceLatencySQLExecutionHook();
+        hook.start("foo_db", "read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishFailure(new RuntimeException("test"));
+        assertThat(latency.getOutstandingRequests(), is(0));
+        assertThat(latency.getEwmaLatencyMillis() >= 1000D, is(true));
+        assertThat(latency.getLastFailureMillis() > 0L, is(true));
+    }
+    
+    @Test
+    void assertStartWithOtherDatabase() {
+        ReadDataSourceLatencyRegistry registry = new ReadDataSourceLatencyRegistry();
+        ReadDataSourceLatency latency = registry.getOrRegister("read_ds");
+        DatabaseReadDataSourceLatencyRegistries.put("foo_db", Collections.singleton(registry));
+        new ReadDataSourceLatencySQLExecutionHook().start("bar_db", "read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(latency.getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    void assertFindAfterRemoved() {
+        ReadDataSourceLatencyRegistry registry = new ReadDataSourceLatencyRegistry();
+        registry.getOrRegister("read_ds");
+        DatabaseReadDataSourceLatencyRegistries.put("foo_db", Collections.singleton(registry));
+        assertThat(DatabaseReadDataSourceLatencyRegistries.find("FOO_DB", "read_ds").size(), is(1));
+        DatabaseReadDataSourceLatencyRegistries.remove("foo_db");
+        assertThat(DatabaseReadDataSourceLatencyRegistries.find("foo_db", "read_ds").isEmpty(), is(true));
+    }
+}
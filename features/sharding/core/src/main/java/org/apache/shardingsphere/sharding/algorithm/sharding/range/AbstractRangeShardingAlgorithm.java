@@ -29,9 +29,11 @@ import org.apache.shardingsphere.sharding.exception.data.NullShardingValueExcept
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Abstract range sharding algorithm.
@@ -40,11 +42,22 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private List<Range<Comparable<?>>> sortedPartitionRanges;
+    
     @Override
     public final void init(final Properties props) {
         partitionRange = calculatePartitionRange(props);
+        sortedPartitionRanges = partitionRange.entrySet().stream().sorted(Entry.comparingByKey()).map(Entry::getValue).collect(Collectors.toList());
     }
     
+    /**
+     * Calculate partition range.
+     *
+     * <p>Partitions are keyed from {@code 0} and their ranges must be ascending and disjoint by key, partition is located by binary search.</p>
+     *
+     * @param props properties
+     * @return partition key and range map
+     */
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
     
     @Override
@@ -74,10 +87,21 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
     }
     
-    private Integer getPartition(final Comparable<?> value) {
-        for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(getLongValue(value))) {
-                return entry.getKey();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int getPartition(final Comparable<?> value) {
+        Long longValue = getLongValue(value);
+        int low = 0;
+        int high = sortedPartitionRanges.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Range<Comparable<?>> range = sortedPartitionRanges.get(middle);
+            if (range.contains(longValue)) {
+                return middle;
+            }
+            if (range.hasLowerBound() && ((Comparable) range.lowerEndpoint()).compareTo(longValue) > 0) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
             }
         }
         throw new UnsupportedSQLOperationException("");
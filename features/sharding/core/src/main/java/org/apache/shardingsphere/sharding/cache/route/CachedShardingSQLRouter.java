@@ -25,11 +25,13 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,30 +55,48 @@ public final class CachedShardingSQLRouter {
     public Optional<RouteContext> loadRouteContext(final OriginSQLRouter originSQLRouter, final QueryContext queryContext, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                    final ShardingSphereDatabase database, final ShardingCache shardingCache, final ConfigurationProperties props,
                                                    final ConnectionContext connectionContext) {
+        ShardingRouteCache routeCache = shardingCache.getRouteCache();
+        String logicTableName = getLogicTableName(queryContext);
         if (queryContext.getSql().length() > shardingCache.getConfiguration().getAllowedMaxSqlLength()) {
+            routeCache.getStatistics().recordUncacheable(logicTableName);
             return Optional.empty();
         }
         ShardingRouteCacheableCheckResult cacheableCheckResult = shardingCache.getRouteCacheableChecker().check(database, queryContext);
         if (!cacheableCheckResult.isProbablyCacheable()) {
+            routeCache.getStatistics().recordUncacheable(logicTableName);
             return Optional.empty();
         }
         List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
         for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
             if (each >= queryContext.getParameters().size()) {
+                routeCache.getStatistics().recordUncacheable(logicTableName);
                 return Optional.empty();
             }
             shardingConditionParams.add(queryContext.getParameters().get(each));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
-        RouteContext result = cachedResult.orElseGet(
-                () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        if (routeCache.isBypassed(queryContext.getSql())) {
+            routeCache.getStatistics().recordBypass(logicTableName);
+            return Optional.empty();
+        }
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams);
+        Optional<RouteContext> cachedResult = routeCache.get(cacheKey).flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        if (cachedResult.isPresent()) {
+            routeCache.getStatistics().recordHit(logicTableName);
+            return cachedResult;
+        }
+        routeCache.getStatistics().recordMiss(logicTableName);
+        RouteContext result = originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext);
+        if (hitOneShardOnly(result)) {
+            routeCache.put(cacheKey, new ShardingRouteCacheValue(logicTableName, result));
         }
         return Optional.of(result);
     }
     
+    private String getLogicTableName(final QueryContext queryContext) {
+        Collection<String> tableNames = queryContext.getSqlStatementContext().getTablesContext().getTableNames();
+        return tableNames.isEmpty() ? "" : tableNames.iterator().next();
+    }
+    
     private boolean hitOneShardOnly(final RouteContext routeContext) {
         return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
                 && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
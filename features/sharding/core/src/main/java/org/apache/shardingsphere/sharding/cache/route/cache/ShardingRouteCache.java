@@ -19,29 +19,68 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.Getter;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache for sharding route.
+ * 
+ * <p>Cache and its statistics belong to sharding rule, so they start from empty whenever sharding rule is rebuilt, such as after rule or storage unit altered.</p>
  */
 public final class ShardingRouteCache {
     
+    private static final int BYPASS_EVALUATION_LOOKUPS = 1024;
+    
+    private static final int BYPASS_HIT_PERCENTAGE_THRESHOLD = 5;
+    
+    private static final long BYPASS_EVALUATION_EXPIRE_MINUTES = 10L;
+    
+    private static final int MAX_EVALUATED_SQL_COUNT = 4096;
+    
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final Cache<String, SQLLookupCounter> sqlLookupCounters;
+    
+    @Getter
+    private final ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
+        sqlLookupCounters = Caffeine.newBuilder().maximumSize(MAX_EVALUATED_SQL_COUNT).expireAfterWrite(BYPASS_EVALUATION_EXPIRE_MINUTES, TimeUnit.MINUTES).build();
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity());
+        if (cacheOptions.getMaximumWeight() > 0L) {
+            Weigher<ShardingRouteCacheKey, ShardingRouteCacheValue> weigher = (key, value) -> key.getSql().length() + key.getShardingConditionParameters().size();
+            result.maximumWeight(cacheOptions.getMaximumWeight()).weigher(weigher);
+        } else {
+            result.maximumSize(cacheOptions.getMaximumSize());
+        }
+        if (cacheOptions.getExpireAfterAccessMillis() > 0L) {
+            result.expireAfterAccess(cacheOptions.getExpireAfterAccessMillis(), TimeUnit.MILLISECONDS);
+        }
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
+        RemovalListener<ShardingRouteCacheKey, ShardingRouteCacheValue> removalListener = this::onRemoval;
+        result.removalListener(removalListener);
         return result.build();
     }
     
+    private void onRemoval(final ShardingRouteCacheKey key, final ShardingRouteCacheValue value, final RemovalCause cause) {
+        if (cause.wasEvicted() && null != value && null != value.getLogicTableName()) {
+            statistics.recordEviction(value.getLogicTableName());
+        }
+    }
+    
     /**
      * Cache route result.
      *
@@ -59,6 +98,50 @@ public final class ShardingRouteCache {
      * @return optional cached route result
      */
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
-        return Optional.ofNullable(cache.getIfPresent(key));
+        ShardingRouteCacheValue result = cache.getIfPresent(key);
+        sqlLookupCounters.get(key.getSql(), unused -> new SQLLookupCounter()).record(null != result);
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Judge whether SQL should bypass route cache.
+     * 
+     * <p>SQL whose sharding parameters hardly repeat, such as inserting with increasing sharding key, will bypass route cache after enough lookups,
+     * and be evaluated again after the lookup counter expired.</p>
+     *
+     * @param sql SQL
+     * @return bypass or not
+     */
+    public boolean isBypassed(final String sql) {
+        SQLLookupCounter counter = sqlLookupCounters.getIfPresent(sql);
+        return null != counter && counter.isLowHitRatio();
+    }
+    
+    /**
+     * Get estimated size of cached route results.
+     *
+     * @return estimated size
+     */
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+    
+    private static final class SQLLookupCounter {
+        
+        private final LongAdder lookupCount = new LongAdder();
+        
+        private final LongAdder hitCount = new LongAdder();
+        
+        private void record(final boolean hit) {
+            lookupCount.increment();
+            if (hit) {
+                hitCount.increment();
+            }
+        }
+        
+        private boolean isLowHitRatio() {
+            long lookups = lookupCount.sum();
+            return lookups >= BYPASS_EVALUATION_LOOKUPS && hitCount.sum() * 100L < lookups * BYPASS_HIT_PERCENTAGE_THRESHOLD;
+        }
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding route cache statistics.
+ */
+public final class ShardingRouteCacheStatistics {
+    
+    private final Map<String, ShardingRouteCacheTableStatistics> tableStatistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Record cache hit.
+     *
+     * @param logicTableName logic table name
+     */
+    public void recordHit(final String logicTableName) {
+        getTableStatistics(logicTableName).recordHit();
+    }
+    
+    /**
+     * Record cache miss.
+     *
+     * @param logicTableName logic table name
+     */
+    public void recordMiss(final String logicTableName) {
+        getTableStatistics(logicTableName).recordMiss();
+    }
+    
+    /**
+     * Record query which is not cacheable.
+     *
+     * @param logicTableName logic table name
+     */
+    public void recordUncacheable(final String logicTableName) {
+        getTableStatistics(logicTableName).recordUncacheable();
+    }
+    
+    /**
+     * Record query which bypasses the cache.
+     *
+     * @param logicTableName logic table name
+     */
+    public void recordBypass(final String logicTableName) {
+        getTableStatistics(logicTableName).recordBypass();
+    }
+    
+    /**
+     * Record cache eviction.
+     *
+     * @param logicTableName logic table name
+     */
+    public void recordEviction(final String logicTableName) {
+        getTableStatistics(logicTableName).recordEviction();
+    }
+    
+    private ShardingRouteCacheTableStatistics getTableStatistics(final String logicTableName) {
+        ShardingRouteCacheTableStatistics result = tableStatistics.get(logicTableName);
+        return null == result ? tableStatistics.computeIfAbsent(logicTableName, ShardingRouteCacheTableStatistics::new) : result;
+    }
+    
+    /**
+     * Get statistics of all logic tables.
+     *
+     * @return statistics of all logic tables
+     */
+    public Collection<ShardingRouteCacheTableStatistics> getAllTableStatistics() {
+        return Collections.unmodifiableCollection(tableStatistics.values());
+    }
+}
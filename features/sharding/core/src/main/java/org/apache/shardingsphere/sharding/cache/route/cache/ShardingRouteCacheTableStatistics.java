@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sharding route cache statistics of logic table.
+ */
+@RequiredArgsConstructor
+public final class ShardingRouteCacheTableStatistics {
+    
+    @Getter
+    private final String logicTableName;
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder uncacheableCount = new LongAdder();
+    
+    private final LongAdder bypassCount = new LongAdder();
+    
+    private final LongAdder evictionCount = new LongAdder();
+    
+    void recordHit() {
+        hitCount.increment();
+    }
+    
+    void recordMiss() {
+        missCount.increment();
+    }
+    
+    void recordUncacheable() {
+        uncacheableCount.increment();
+    }
+    
+    void recordBypass() {
+        bypassCount.increment();
+    }
+    
+    void recordEviction() {
+        evictionCount.increment();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    /**
+     * Get count of queries which are not cacheable.
+     *
+     * @return uncacheable count
+     */
+    public long getUncacheableCount() {
+        return uncacheableCount.sum();
+    }
+    
+    /**
+     * Get count of queries which bypass the cache because of low hit ratio.
+     *
+     * @return bypass count
+     */
+    public long getBypassCount() {
+        return bypassCount.sum();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+    
+    /**
+     * Get hit ratio.
+     *
+     * @return hit ratio, 0 if no lookup
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return 0L == lookups ? 0D : (double) hits / lookups;
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
@@ -59,6 +60,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final int groupByMergeMaxMemoryRows;
+    
+    private final boolean approximateCountDistinctEnabled;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0, false);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -126,7 +135,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, approximateCountDistinctEnabled)
+                : createGroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    }
+    
+    private MergedResult createGroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                         final ShardingSphereSchema schema) throws SQLException {
+        return groupByMergeMaxMemoryRows > 0 || approximateCountDistinctEnabled
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, groupByMergeMaxMemoryRows, approximateCountDistinctEnabled)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
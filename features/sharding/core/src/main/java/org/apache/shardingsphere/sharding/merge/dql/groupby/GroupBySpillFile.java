@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.GroupBySpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Local temporary file which keeps spilled group by rows.
+ * 
+ * <p>Rows are written sequentially and read back once in the same order. The file keeps no stream open after writing finished and before reading started,
+ * and is deleted after being read or closed.</p>
+ */
+@Slf4j
+public final class GroupBySpillFile {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    private final int columnCount;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int rowCount;
+    
+    private int remainingRowCount;
+    
+    private boolean closed;
+    
+    public GroupBySpillFile(final int columnCount) {
+        this.columnCount = columnCount;
+        try {
+            path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            throw new GroupBySpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Write current row of query result.
+     * 
+     * @param queryResult query result
+     * @return written or not, false if any value of row is not serializable
+     * @throws SQLException SQL exception
+     */
+    public boolean write(final QueryResult queryResult) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return write(row);
+    }
+    
+    /**
+     * Write memory row.
+     * 
+     * @param memoryRow memory row
+     * @return written or not, false if any value of row is not serializable
+     */
+    public boolean write(final MemoryQueryResultRow memoryRow) {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = memoryRow.getCell(i + 1);
+        }
+        return write(row);
+    }
+    
+    private boolean write(final Object[] row) {
+        for (Object each : row) {
+            if (null != each && !(each instanceof Serializable)) {
+                return false;
+            }
+        }
+        try {
+            outputStream.writeObject(row);
+            rowCount++;
+            if (0 == rowCount % RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new GroupBySpillException(ex.getMessage());
+        }
+        return true;
+    }
+    
+    /**
+     * Finish writing.
+     */
+    public void finishWriting() {
+        if (null == outputStream) {
+            return;
+        }
+        try {
+            outputStream.close();
+        } catch (final IOException ex) {
+            close();
+            throw new GroupBySpillException(ex.getMessage());
+        }
+        outputStream = null;
+        remainingRowCount = rowCount;
+    }
+    
+    /**
+     * Read next row.
+     * 
+     * @return next row, null if all rows have been read
+     */
+    public MemoryQueryResultRow read() {
+        if (0 == remainingRowCount) {
+            close();
+            return null;
+        }
+        try {
+            if (null == inputStream) {
+                inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            }
+            remainingRowCount--;
+            return new MemoryQueryResultRow((Object[]) inputStream.readObject());
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new GroupBySpillException(ex.getMessage());
+        }
+    }
+    
+    /**
+     * Close and delete the file.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        remainingRowCount = 0;
+        try {
+            if (null != inputStream) {
+                inputStream.close();
+            }
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            log.warn("Failed to close and delete group by spill file `{}`.", path, ex);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Group by merged result which keeps limited groups in memory, and supports approximate count distinct.
+ * 
+ * <p>Rows of groups exceeding max memory rows are hash partitioned to local temporary files, every partition is aggregated and sorted separately,
+ * and sorted runs are merged in order at last. Partitions still exceeding max memory rows are partitioned again until reaching max spill depth.
+ * At most max merge runs sorted runs are opened at the same time, more sorted runs are merged into intermediate sorted runs in advance.</p>
+ * 
+ * <p>Rows which contain values can not be serialized are never spilled, the groups spilled already are read back and all groups are aggregated in memory instead.
+ * Temporary files are deleted when they are read completely, or when the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private static final int MAX_MERGE_RUNS = 64;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final int maxMemoryRows;
+    
+    private final boolean approximateCountDistinct;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final MergedResult mergedResult;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryRows, final boolean approximateCountDistinct) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.schema = schema;
+        this.maxMemoryRows = maxMemoryRows;
+        this.approximateCountDistinct = approximateCountDistinct;
+        try {
+            mergedResult = new OrderByStreamMergedResult(createSortedRuns(queryResults), selectStatementContext, schema);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+    }
+    
+    private List<QueryResult> createSortedRuns(final List<QueryResult> queryResults) throws SQLException {
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, queryResults, schema);
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, approximateCountDistinct);
+        Collection<GroupBySpillFile> partitions = aggregate(queryResults, metaData, aggregator, maxMemoryRows, 0);
+        List<QueryResult> memoryRuns = new LinkedList<>();
+        memoryRuns.add(new GroupByRowsQueryResult(metaData, aggregator.getSortedRows(rowComparator).iterator()));
+        List<QueryResult> spilledRuns = new LinkedList<>();
+        for (GroupBySpillFile each : partitions) {
+            addSpilledRuns(new GroupByRowsQueryResult(metaData, each), rowComparator, 1, memoryRuns, spilledRuns);
+        }
+        List<QueryResult> result = new LinkedList<>(memoryRuns);
+        result.addAll(mergeSpilledRuns(spilledRuns, metaData));
+        return result;
+    }
+    
+    private void addSpilledRuns(final QueryResult partition, final GroupByRowComparator rowComparator, final int depth,
+                                final List<QueryResult> memoryRuns, final List<QueryResult> spilledRuns) throws SQLException {
+        QueryResultMetaData metaData = partition.getMetaData();
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, approximateCountDistinct);
+        Collection<GroupBySpillFile> subPartitions = aggregate(Collections.singletonList(partition), metaData, aggregator, depth < MAX_SPILL_DEPTH ? maxMemoryRows : 0, depth);
+        List<MemoryQueryResultRow> sortedRows = aggregator.getSortedRows(rowComparator);
+        Optional<GroupBySpillFile> sortedRun = spill(sortedRows, metaData.getColumnCount());
+        if (sortedRun.isPresent()) {
+            spilledRuns.add(new GroupByRowsQueryResult(metaData, sortedRun.get()));
+        } else {
+            memoryRuns.add(new GroupByRowsQueryResult(metaData, sortedRows.iterator()));
+        }
+        for (GroupBySpillFile each : subPartitions) {
+            addSpilledRuns(new GroupByRowsQueryResult(metaData, each), rowComparator, depth + 1, memoryRuns, spilledRuns);
+        }
+    }
+    
+    private Optional<GroupBySpillFile> spill(final Collection<MemoryQueryResultRow> rows, final int columnCount) {
+        GroupBySpillFile result = createSpillFile(columnCount);
+        for (MemoryQueryResultRow each : rows) {
+            if (!result.write(each)) {
+                result.close();
+                return Optional.empty();
+            }
+        }
+        result.finishWriting();
+        return Optional.of(result);
+    }
+    
+    private Collection<GroupBySpillFile> aggregate(final List<QueryResult> queryResults, final QueryResultMetaData metaData,
+                                                   final GroupByAggregator aggregator, final int memoryRowsLimit, final int depth) throws SQLException {
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        boolean spillable = memoryRowsLimit > 0;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (!spillable || aggregator.size() < memoryRowsLimit || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                int partitionIndex = getPartitionIndex(groupByValue, depth);
+                if (null == partitions[partitionIndex]) {
+                    partitions[partitionIndex] = createSpillFile(metaData.getColumnCount());
+                }
+                if (!partitions[partitionIndex].write(each)) {
+                    restoreSpilledRows(partitions, metaData, aggregator);
+                    aggregator.aggregate(each, groupByValue);
+                    spillable = false;
+                }
+            }
+        }
+        Collection<GroupBySpillFile> result = new LinkedList<>();
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.finishWriting();
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void restoreSpilledRows(final GroupBySpillFile[] partitions, final QueryResultMetaData metaData, final GroupByAggregator aggregator) throws SQLException {
+        for (int i = 0; i < partitions.length; i++) {
+            if (null == partitions[i]) {
+                continue;
+            }
+            QueryResult spilledRows = new GroupByRowsQueryResult(metaData, partitions[i]);
+            while (spilledRows.next()) {
+                aggregator.aggregate(spilledRows, new GroupByValue(spilledRows, selectStatementContext.getGroupByContext().getItems()));
+            }
+            partitions[i] = null;
+        }
+    }
+    
+    private List<QueryResult> mergeSpilledRuns(final List<QueryResult> spilledRuns, final QueryResultMetaData metaData) throws SQLException {
+        List<QueryResult> result = spilledRuns;
+        while (result.size() > MAX_MERGE_RUNS) {
+            List<QueryResult> mergedRuns = new LinkedList<>();
+            for (int i = 0; i < result.size(); i += MAX_MERGE_RUNS) {
+                List<QueryResult> runs = new ArrayList<>(result.subList(i, Math.min(i + MAX_MERGE_RUNS, result.size())));
+                mergedRuns.add(1 == runs.size() ? runs.get(0) : mergeSpilledRun(runs, metaData));
+            }
+            result = mergedRuns;
+        }
+        return result;
+    }
+    
+    private QueryResult mergeSpilledRun(final List<QueryResult> spilledRuns, final QueryResultMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        GroupBySpillFile result = createSpillFile(columnCount);
+        MergedResult sortedRows = new OrderByStreamMergedResult(spilledRuns, selectStatementContext, schema);
+        while (sortedRows.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = sortedRows.getValue(i + 1, Object.class);
+            }
+            result.write(new MemoryQueryResultRow(row));
+        }
+        return new GroupByRowsQueryResult(metaData, result);
+    }
+    
+    private GroupBySpillFile createSpillFile(final int columnCount) {
+        GroupBySpillFile result = new GroupBySpillFile(columnCount);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode() * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        return (hash >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return mergedResult.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return mergedResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return mergedResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return mergedResult.getCharacterStream(columnIndex);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return mergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() {
+        for (GroupBySpillFile each : spillFiles) {
+            each.close();
+        }
+        spillFiles.clear();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ * 
+ * <p>Values are counted exactly until exceeding exact threshold, then estimated by HyperLogLog with 2^12 registers,
+ * whose standard error is about 1.6%.</p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final int PRECISION = 12;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int EXACT_THRESHOLD = 512;
+    
+    private static final double ALPHA = 0.7213D / (1D + 1.079D / REGISTER_COUNT);
+    
+    private Collection<Comparable<?>> exactValues = new HashSet<>();
+    
+    private byte[] registers;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null != registers) {
+            addHash(hash(values.get(0)));
+            return;
+        }
+        exactValues.add(values.get(0));
+        if (exactValues.size() > EXACT_THRESHOLD) {
+            registers = new byte[REGISTER_COUNT];
+            for (Comparable<?> each : exactValues) {
+                addHash(hash(each));
+            }
+            exactValues = null;
+        }
+    }
+    
+    private long hash(final Comparable<?> value) {
+        long result = value.hashCode() * 0x9E3779B97F4A7C15L;
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        return result ^ result >>> 33;
+    }
+    
+    private void addHash(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == registers ? (long) exactValues.size() : estimate();
+    }
+    
+    private long estimate() {
+        double sum = 0D;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1D / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double result = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5D * REGISTER_COUNT && 0 != zeroRegisterCount) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+}
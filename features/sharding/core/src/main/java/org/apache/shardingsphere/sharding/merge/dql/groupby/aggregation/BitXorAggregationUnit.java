@@ -28,21 +28,31 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class BitXorAggregationUnit implements AggregationUnit {
     
+    private long longResult;
+    
     private BigInteger result;
     
+    private boolean empty = true;
+    
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = BigInteger.ZERO;
+        empty = false;
+        if (DecimalAccumulator.isIntegral(values.get(0))) {
+            longResult ^= ((Number) values.get(0)).longValue();
+            return;
         }
-        result = result.xor(new BigInteger(values.get(0).toString()));
+        BigInteger value = new BigInteger(values.get(0).toString());
+        result = null == result ? value : result.xor(value);
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        if (empty) {
+            return null;
+        }
+        return null == result ? BigInteger.valueOf(longResult) : result.xor(BigInteger.valueOf(longResult));
     }
 }
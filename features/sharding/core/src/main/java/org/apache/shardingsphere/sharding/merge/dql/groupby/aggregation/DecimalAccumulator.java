@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Decimal accumulator.
+ * 
+ * <p>Integral values are accumulated into a primitive long, and are folded into big decimal only when the long overflows
+ * or the accumulator meets a non-integral value, so that summing integral columns does not create a big decimal per row.</p>
+ */
+public final class DecimalAccumulator {
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    private boolean empty = true;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    public void add(final Comparable<?> value) {
+        empty = false;
+        if (isIntegral(value)) {
+            addLong(((Number) value).longValue());
+            return;
+        }
+        BigDecimal decimal = toBigDecimal(value);
+        decimalValue = null == decimalValue ? decimal : decimalValue.add(decimal);
+    }
+    
+    private void addLong(final long value) {
+        long result = longValue + value;
+        if (((longValue ^ result) & (value ^ result)) < 0L) {
+            BigDecimal overflow = BigDecimal.valueOf(longValue);
+            decimalValue = null == decimalValue ? overflow : decimalValue.add(overflow);
+            longValue = value;
+            return;
+        }
+        longValue = result;
+    }
+    
+    /**
+     * Judge whether any value has been added.
+     * 
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+    
+    /**
+     * Get accumulated result.
+     * 
+     * @return accumulated result, null if no value has been added
+     */
+    public BigDecimal getResult() {
+        if (empty) {
+            return null;
+        }
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue.add(BigDecimal.valueOf(longValue));
+    }
+    
+    /**
+     * Judge whether value is integral number which fits in long.
+     * 
+     * @param value value
+     * @return is integral or not
+     */
+    public static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static BigDecimal toBigDecimal(final Comparable<?> value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double) {
+            return BigDecimal.valueOf((Double) value);
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -31,9 +31,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final DecimalAccumulator count = new DecimalAccumulator();
     
-    private BigDecimal sum;
+    private final DecimalAccumulator sum = new DecimalAccumulator();
     
     private final Collection<Comparable<?>> countValues = new LinkedHashSet<>();
     
@@ -45,23 +45,18 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
             return;
         }
         if (countValues.add(values.get(0)) && sumValues.add(values.get(0))) {
-            if (null == count) {
-                count = BigDecimal.ZERO;
-            }
-            if (null == sum) {
-                sum = BigDecimal.ZERO;
-            }
-            count = count.add(new BigDecimal(values.get(0).toString()));
-            sum = sum.add(new BigDecimal(values.get(1).toString()));
+            count.add(values.get(0));
+            sum.add(values.get(1));
         }
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        BigDecimal countResult = count.getResult();
+        if (null == countResult || BigDecimal.ZERO.equals(countResult)) {
+            return countResult;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, RoundingMode.HALF_UP);
+        return sum.getResult().divide(countResult, 4, RoundingMode.HALF_UP);
     }
 }
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -30,7 +29,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final DecimalAccumulator result = new DecimalAccumulator();
     
     private final Collection<Comparable<?>> values = new HashSet<>();
     
@@ -40,15 +39,12 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
             return;
         }
         if (this.values.add(values.get(0))) {
-            if (null == result) {
-                result = BigDecimal.ZERO;
-            }
-            result = result.add(new BigDecimal(values.get(0).toString()));
+            result.add(values.get(0));
         }
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return result.getResult();
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree for merging order by values.
+ * 
+ * <p>Every internal node keeps the loser of the match played there and node 0 keeps the overall winner,
+ * so replacing the winner only replays the matches on its path to the root, which needs one comparison per level.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final int[] losers;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[Math.max(this.orderByValues.length, 1)];
+        if (this.orderByValues.length > 1) {
+            losers[0] = play(1);
+        }
+    }
+    
+    private int play(final int node) {
+        if (node >= orderByValues.length) {
+            return node - orderByValues.length;
+        }
+        int left = play(node * 2);
+        int right = play(node * 2 + 1);
+        if (beats(right, left)) {
+            losers[node] = left;
+            return right;
+        }
+        losers[node] = right;
+        return left;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || null == orderByValues[losers[0]];
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return current winner, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return 0 == orderByValues.length ? null : orderByValues[losers[0]];
+    }
+    
+    /**
+     * Move current winner to its next row and replay the matches on its path.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void advance() throws SQLException {
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            orderByValues[winner] = null;
+        }
+        for (int node = (winner + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean beats(final int challenger, final int incumbent) {
+        if (null == orderByValues[challenger]) {
+            return false;
+        }
+        return null == orderByValues[incumbent] || orderByValues[challenger].compareTo(orderByValues[incumbent]) < 0;
+    }
+}
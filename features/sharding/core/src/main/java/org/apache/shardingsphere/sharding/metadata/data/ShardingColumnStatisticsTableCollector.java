@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.SchemaSupportedDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.data.collector.ShardingSphereDataCollector;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sharding column statistics table data collector.
+ *
+ * <p>Distinct count comes from the sampled statistics maintained by the storage database itself, min and max values are queried from the actual table
+ * at most once per min and max refresh interval, because they are full aggregations on the actual table.
+ * Cached min and max values are rebuilt on each collection, so only current data nodes are kept.</p>
+ */
+public final class ShardingColumnStatisticsTableCollector implements ShardingSphereDataCollector {
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final String MYSQL_DISTINCT_COUNT = "SELECT MAX(CARDINALITY) AS DISTINCT_COUNT FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ? AND SEQ_IN_INDEX = 1";
+    
+    private static final String POSTGRESQL_DISTINCT_COUNT = "SELECT CASE WHEN S.N_DISTINCT < 0 THEN -S.N_DISTINCT * C.RELTUPLES ELSE S.N_DISTINCT END AS DISTINCT_COUNT "
+            + "FROM PG_STATS S JOIN PG_NAMESPACE N ON N.NSPNAME = S.SCHEMANAME JOIN PG_CLASS C ON C.RELNAMESPACE = N.OID AND C.RELNAME = S.TABLENAME "
+            + "WHERE S.SCHEMANAME = ? AND S.TABLENAME = ? AND S.ATTNAME = ?";
+    
+    private static final String MIN_AND_MAX_VALUE = "SELECT MIN(%s) AS MIN_VALUE, MAX(%s) AS MAX_VALUE FROM %s";
+    
+    private static final String DISTINCT_COUNT_COLUMN_NAME = "DISTINCT_COUNT";
+    
+    private static final String MIN_VALUE_COLUMN_NAME = "MIN_VALUE";
+    
+    private static final String MAX_VALUE_COLUMN_NAME = "MAX_VALUE";
+    
+    private static final String POSTGRESQL_DEFAULT_SCHEMA = "public";
+    
+    private static final long MIN_AND_MAX_REFRESH_INTERVAL_MILLIS = 600000L;
+    
+    private final Map<String, Map<String, MinAndMaxValue>> minAndMaxValues = new ConcurrentHashMap<>();
+    
+    @Override
+    public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
+                                                     final Map<String, ShardingSphereDatabase> shardingSphereDatabases) throws SQLException {
+        ShardingSphereTableData result = new ShardingSphereTableData(SHARDING_COLUMN_STATISTICS);
+        minAndMaxValues.keySet().retainAll(shardingSphereDatabases.keySet());
+        DatabaseType protocolType = shardingSphereDatabases.values().iterator().next().getProtocolType();
+        if (protocolType instanceof SchemaSupportedDatabaseType) {
+            collectFromDatabase(shardingSphereDatabases.get(databaseName), result);
+        } else {
+            for (ShardingSphereDatabase each : shardingSphereDatabases.values()) {
+                collectFromDatabase(each, result);
+            }
+        }
+        return result.getRows().isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private void collectFromDatabase(final ShardingSphereDatabase shardingSphereDatabase, final ShardingSphereTableData tableData) throws SQLException {
+        Optional<ShardingRule> shardingRule = shardingSphereDatabase.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!shardingRule.isPresent()) {
+            return;
+        }
+        collectForShardingColumnStatisticTable(shardingSphereDatabase, shardingRule.get(), tableData);
+    }
+    
+    private void collectForShardingColumnStatisticTable(final ShardingSphereDatabase shardingSphereDatabase, final ShardingRule shardingRule,
+                                                        final ShardingSphereTableData tableData) throws SQLException {
+        int count = 1;
+        Map<String, MinAndMaxValue> previousMinAndMaxValues = minAndMaxValues.getOrDefault(shardingSphereDatabase.getName(), Collections.emptyMap());
+        Map<String, MinAndMaxValue> currentMinAndMaxValues = new HashMap<>(previousMinAndMaxValues.size(), 1F);
+        for (TableRule each : shardingRule.getTableRules().values()) {
+            Collection<String> shardingColumns = shardingRule.getShardingColumns(each);
+            if (shardingColumns.isEmpty()) {
+                continue;
+            }
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                DatabaseType databaseType = shardingSphereDatabase.getResourceMetaData().getStorageTypes().get(dataNode.getDataSourceName());
+                if (!isSupportedDatabaseType(databaseType)) {
+                    continue;
+                }
+                try (Connection connection = shardingSphereDatabase.getResourceMetaData().getDataSources().get(dataNode.getDataSourceName()).getConnection()) {
+                    for (String shardingColumn : shardingColumns) {
+                        List<Object> row = new LinkedList<>();
+                        row.add(count++);
+                        row.add(shardingSphereDatabase.getName());
+                        row.add(each.getLogicTable());
+                        row.add(dataNode.getDataSourceName());
+                        row.add(dataNode.getTableName());
+                        row.add(shardingColumn);
+                        row.add(getDistinctCount(databaseType, connection, dataNode, shardingColumn));
+                        MinAndMaxValue minAndMaxValue = getMinAndMaxValue(previousMinAndMaxValues, databaseType, connection, dataNode, shardingColumn);
+                        currentMinAndMaxValues.put(getMinAndMaxValueKey(dataNode, shardingColumn), minAndMaxValue);
+                        row.add(minAndMaxValue.minValue);
+                        row.add(minAndMaxValue.maxValue);
+                        tableData.getRows().add(new ShardingSphereRowData(row));
+                    }
+                }
+            }
+        }
+        minAndMaxValues.put(shardingSphereDatabase.getName(), currentMinAndMaxValues);
+    }
+    
+    private boolean isSupportedDatabaseType(final DatabaseType databaseType) {
+        return databaseType instanceof MySQLDatabaseType || databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType;
+    }
+    
+    /*
+     * Distinct count is unknown if the column is not indexed for MySQL, or not analyzed for PostgreSQL, which is returned as null instead of 0.
+     */
+    private BigDecimal getDistinctCount(final DatabaseType databaseType, final Connection connection, final DataNode dataNode, final String columnName) throws SQLException {
+        boolean isMySQL = databaseType instanceof MySQLDatabaseType;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(isMySQL ? MYSQL_DISTINCT_COUNT : POSTGRESQL_DISTINCT_COUNT)) {
+            preparedStatement.setString(1, isMySQL ? connection.getCatalog() : getSchemaName(dataNode));
+            preparedStatement.setString(2, dataNode.getTableName());
+            preparedStatement.setString(3, isMySQL ? columnName : columnName.toLowerCase());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                BigDecimal result = resultSet.next() ? resultSet.getBigDecimal(DISTINCT_COUNT_COLUMN_NAME) : null;
+                return null == result || result.signum() <= 0 ? null : result;
+            }
+        }
+    }
+    
+    private MinAndMaxValue getMinAndMaxValue(final Map<String, MinAndMaxValue> previousMinAndMaxValues, final DatabaseType databaseType, final Connection connection,
+                                             final DataNode dataNode, final String columnName) throws SQLException {
+        long currentMillis = System.currentTimeMillis();
+        MinAndMaxValue result = previousMinAndMaxValues.get(getMinAndMaxValueKey(dataNode, columnName));
+        if (null != result && currentMillis - result.refreshedMillis < MIN_AND_MAX_REFRESH_INTERVAL_MILLIS) {
+            return result;
+        }
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(getMinAndMaxValueSQL(databaseType, dataNode, columnName))) {
+            result = resultSet.next()
+                    ? new MinAndMaxValue(currentMillis, resultSet.getString(MIN_VALUE_COLUMN_NAME), resultSet.getString(MAX_VALUE_COLUMN_NAME))
+                    : new MinAndMaxValue(currentMillis, null, null);
+        }
+        return result;
+    }
+    
+    private String getMinAndMaxValueKey(final DataNode dataNode, final String columnName) {
+        return String.join(".", dataNode.getDataSourceName(), getSchemaName(dataNode), dataNode.getTableName(), columnName);
+    }
+    
+    private String getMinAndMaxValueSQL(final DatabaseType databaseType, final DataNode dataNode, final String columnName) {
+        if (databaseType instanceof MySQLDatabaseType) {
+            String quotedColumnName = databaseType.getQuoteCharacter().wrap(columnName);
+            return String.format(MIN_AND_MAX_VALUE, quotedColumnName, quotedColumnName, databaseType.getQuoteCharacter().wrap(dataNode.getTableName()));
+        }
+        String quotedColumnName = databaseType.getQuoteCharacter().wrap(columnName.toLowerCase());
+        String quotedTableName = databaseType.getQuoteCharacter().wrap(getSchemaName(dataNode)) + "." + databaseType.getQuoteCharacter().wrap(dataNode.getTableName().toLowerCase());
+        return String.format(MIN_AND_MAX_VALUE, quotedColumnName, quotedColumnName, quotedTableName);
+    }
+    
+    private String getSchemaName(final DataNode dataNode) {
+        return null == dataNode.getSchemaName() ? POSTGRESQL_DEFAULT_SCHEMA : dataNode.getSchemaName();
+    }
+    
+    @Override
+    public String getType() {
+        return SHARDING_COLUMN_STATISTICS;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MinAndMaxValue {
+        
+        private final long refreshedMillis;
+        
+        private final String minValue;
+        
+        private final String maxValue;
+    }
+}
@@ -538,6 +538,32 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return Optional.ofNullable(tableRules.get(tableName.toLowerCase())).flatMap(optional -> findShardingColumn(optional, columnName));
     }
     
+    /**
+     * Get sharding columns.
+     *
+     * @param tableRule table rule
+     * @return sharding columns of database and table sharding strategies
+     */
+    public Collection<String> getShardingColumns(final TableRule tableRule) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(getShardingColumns(getDatabaseShardingStrategyConfiguration(tableRule)));
+        result.addAll(getShardingColumns(getTableShardingStrategyConfiguration(tableRule)));
+        return result;
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null == shardingColumn ? Collections.emptyList() : Collections.singletonList(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Splitter.on(",").trimResults().omitEmptyStrings().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
+        }
+        return Collections.emptyList();
+    }
+    
     private Optional<String> findShardingColumn(final TableRule tableRule, final String columnName) {
         Optional<String> databaseShardingColumn = findShardingColumn(getDatabaseShardingStrategyConfiguration(tableRule), columnName);
         if (databaseShardingColumn.isPresent()) {
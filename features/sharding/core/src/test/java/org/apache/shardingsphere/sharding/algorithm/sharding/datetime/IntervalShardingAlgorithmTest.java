@@ -41,13 +41,16 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntervalShardingAlgorithmTest {
     
@@ -260,6 +263,18 @@ class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(3));
     }
     
+    @Test
+    void assertRangeDoShardingWithChangedAvailableTargetNames() {
+        Collection<String> availableTargetNames = Arrays.asList("t_order_201904", "t_order_202001", "t_order_202002");
+        Collection<String> actual = shardingAlgorithmByQuarter.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2019-10-15 10:59:08", "2020-04-08 10:59:08")));
+        assertThat(actual.size(), is(3));
+        actual = shardingAlgorithmByQuarter.doSharding(Collections.singletonList("t_order_202002"),
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2019-10-15 10:59:08", "2020-04-08 10:59:08")));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_202002"));
+    }
+    
     @Test
     void assertPreciseDoShardingByMonth() {
         assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
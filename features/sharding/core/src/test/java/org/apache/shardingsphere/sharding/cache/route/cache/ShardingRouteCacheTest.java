@@ -36,4 +36,36 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertIsBypassedWithLowHitRatio() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 1));
+        String sql = "insert into t (id) values (?)";
+        assertFalse(cache.isBypassed(sql));
+        for (int i = 0; i < 1024; i++) {
+            cache.get(new ShardingRouteCacheKey(sql, Collections.singletonList(i)));
+        }
+        assertTrue(cache.isBypassed(sql));
+    }
+    
+    @Test
+    void assertIsBypassedWithLowHitRatioAndMaximumWeight() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 0, 1024L, 0L));
+        String sql = "insert into t (id) values (?)";
+        for (int i = 0; i < 1024; i++) {
+            cache.get(new ShardingRouteCacheKey(sql, Collections.singletonList(i)));
+        }
+        assertTrue(cache.isBypassed(sql));
+    }
+    
+    @Test
+    void assertIsNotBypassedWithHighHitRatio() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.put(key, new ShardingRouteCacheValue("t", new RouteContext()));
+        for (int i = 0; i < 1024; i++) {
+            cache.get(key);
+        }
+        assertFalse(cache.isBypassed("select name from t where id = ?"));
+    }
 }
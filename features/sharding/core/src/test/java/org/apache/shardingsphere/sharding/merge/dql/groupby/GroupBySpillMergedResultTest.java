@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        QueryResult queryResult1 = createQueryResult(metaData, new Object[]{1, 10, 1, 1, 10}, new Object[]{2, 20, 2, 2, 40});
+        QueryResult queryResult2 = createQueryResult(metaData, new Object[]{3, 30, 3, 3, 90}, new Object[]{1, 10, 1, 1, 10}, new Object[]{2, 10, 2, 2, 20});
+        QueryResult queryResult3 = createQueryResult(metaData, new Object[]{4, 5, 4, 4, 20}, new Object[]{1, 30, 3, 1, 30});
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), mockDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertRow(actual, 4, 5, 4);
+        assertRow(actual, 3, 30, 4);
+        assertRow(actual, 2, 15, 4);
+        assertRow(actual, 1, 10, 2);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(metaData), createQueryResult(metaData)), createSelectStatementContext(), mockDatabase(), mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithMoreSortedRunsThanMaxMergeRuns() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        Object[][] rows = new Object[500][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{1, i, i, 1, i};
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Collections.singletonList(createQueryResult(metaData, rows)), createSelectStatementContext(), mockDatabase(), mock(ConnectionContext.class));
+        for (int i = rows.length - 1; i >= 0; i--) {
+            assertRow(actual, i, i, 1);
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithNotSerializableValues() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        QueryResult queryResult1 = createQueryResult(metaData, new Object[]{1, 10, new NotSerializableValue(1), 1, 10}, new Object[]{2, 20, new NotSerializableValue(2), 2, 40});
+        QueryResult queryResult2 = createQueryResult(metaData, new Object[]{3, 30, new NotSerializableValue(3), 3, 90}, new Object[]{1, 10, new NotSerializableValue(1), 1, 10});
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), mockDatabase(), mock(ConnectionContext.class));
+        assertRow(actual, new NotSerializableValue(3), 30, 3);
+        assertRow(actual, new NotSerializableValue(2), 20, 2);
+        assertRow(actual, new NotSerializableValue(1), 10, 2);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        QueryResultMetaData metaData = createQueryResultMetaData();
+        Collection<Path> originalSpillFiles = listSpillFiles();
+        QueryResult queryResult = createQueryResult(metaData, new Object[]{1, 10, 1, 1, 10}, new Object[]{2, 20, 2, 2, 40}, new Object[]{3, 30, 3, 3, 90});
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, false);
+        MergedResult actual = resultMerger.merge(Collections.singletonList(queryResult), createSelectStatementContext(), mockDatabase(), mock(ConnectionContext.class));
+        assertRow(actual, 3, 30, 3);
+        Collection<Path> spillFiles = listSpillFiles();
+        spillFiles.removeAll(originalSpillFiles);
+        assertFalse(spillFiles.isEmpty());
+        actual.close();
+        for (Path each : spillFiles) {
+            assertFalse(Files.exists(each));
+        }
+    }
+    
+    private Collection<Path> listSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+    
+    private void assertRow(final MergedResult actual, final Object id, final int average, final int count) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(id));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(average));
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData() throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(5);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final QueryResultMetaData metaData, final Object[]... rows) {
+        return new GroupByRowsQueryResult(metaData, Arrays.stream(rows).map(MemoryQueryResultRow::new).iterator());
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("db_schema");
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ShardingSphereRuleMetaData.class),
+                mock(ConfigurationProperties.class)), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class NotSerializableValue implements Comparable<NotSerializableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final NotSerializableValue other) {
+            return Integer.compare(value, other.value);
+        }
+    }
+}
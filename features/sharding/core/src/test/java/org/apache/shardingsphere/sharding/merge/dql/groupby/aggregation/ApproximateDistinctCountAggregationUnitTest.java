@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    void assertExactDistinctCount() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(2));
+        assertThat(aggregationUnit.getResult(), is(2L));
+    }
+    
+    @Test
+    void assertApproximateDistinctCount() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int i = 0; i < 100000; i++) {
+            aggregationUnit.merge(Collections.singletonList(i));
+            aggregationUnit.merge(Collections.singletonList(i));
+        }
+        long actual = (Long) aggregationUnit.getResult();
+        assertTrue(actual > 95000L && actual < 105000L);
+    }
+}
@@ -37,4 +37,13 @@ class BitXorAggregationUnitTest {
         bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("10")));
         assertThat(((Number) bitXorAggregationUnit.getResult()).intValue(), is(9));
     }
+    
+    @Test
+    void assertBitXorAggregationWithIntegralValues() {
+        BitXorAggregationUnit bitXorAggregationUnit = new BitXorAggregationUnit();
+        bitXorAggregationUnit.merge(Collections.singletonList(1L));
+        bitXorAggregationUnit.merge(Collections.singletonList(2));
+        bitXorAggregationUnit.merge(Collections.singletonList(new BigInteger("10")));
+        assertThat(bitXorAggregationUnit.getResult(), is(new BigInteger("9")));
+    }
 }
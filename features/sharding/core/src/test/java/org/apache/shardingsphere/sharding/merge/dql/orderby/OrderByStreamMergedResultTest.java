@@ -48,6 +48,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -154,6 +155,28 @@ class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForManyResultSets() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            QueryResult queryResult = mock(QueryResult.class);
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResult.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            when(queryResult.next()).thenReturn(true, true, true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn(i, i, i + 7, i + 7, i + 14, i + 14);
+            queryResults.add(queryResult);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (int i = 0; i < 21; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertNextForCaseSensitive() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
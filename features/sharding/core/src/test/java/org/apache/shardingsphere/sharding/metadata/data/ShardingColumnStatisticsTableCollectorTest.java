@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardingColumnStatisticsTableCollectorTest {
+    
+    @Test
+    void assertCollectForMySQL() throws SQLException {
+        PreparedStatement preparedStatement = mockDistinctCountStatement(10);
+        Statement statement = mockMinAndMaxValueStatement("1", "100");
+        Connection connection = mockConnection(preparedStatement, statement);
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap("sharding_db", mockDatabase(TypedSPILoader.getService(DatabaseType.class, "MySQL"), connection));
+        Optional<ShardingSphereTableData> actual = new ShardingColumnStatisticsTableCollector().collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().size(), is(1));
+        assertThat(actual.get().getRows().get(0).getRows(), is(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", "order_id", new BigDecimal(10), "1", "100")));
+        verify(preparedStatement).setString(1, "db_0");
+        verify(preparedStatement).setString(2, "t_order_0");
+        verify(preparedStatement).setString(3, "order_id");
+        verify(statement).executeQuery("SELECT MIN(`order_id`) AS MIN_VALUE, MAX(`order_id`) AS MAX_VALUE FROM `t_order_0`");
+    }
+    
+    @Test
+    void assertCollectForPostgreSQL() throws SQLException {
+        PreparedStatement preparedStatement = mockDistinctCountStatement(20);
+        Statement statement = mockMinAndMaxValueStatement("5", "50");
+        Connection connection = mockConnection(preparedStatement, statement);
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap("sharding_db", mockDatabase(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), connection));
+        Optional<ShardingSphereTableData> actual = new ShardingColumnStatisticsTableCollector().collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().get(0).getRows(), is(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", "order_id", new BigDecimal(20), "5", "50")));
+        verify(preparedStatement).setString(1, "public");
+        verify(statement).executeQuery("SELECT MIN(\"order_id\") AS MIN_VALUE, MAX(\"order_id\") AS MAX_VALUE FROM \"public\".\"t_order_0\"");
+    }
+    
+    @Test
+    void assertCollectMinAndMaxValueOncePerRefreshInterval() throws SQLException {
+        Connection connection = mockConnection(mockDistinctCountStatement(10), mockMinAndMaxValueStatement("1", "100"));
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap("sharding_db", mockDatabase(TypedSPILoader.getService(DatabaseType.class, "MySQL"), connection));
+        ShardingColumnStatisticsTableCollector collector = new ShardingColumnStatisticsTableCollector();
+        collector.collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        Optional<ShardingSphereTableData> actual = collector.collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().get(0).getRows().get(7), is("1"));
+        assertThat(actual.get().getRows().get(0).getRows().get(8), is("100"));
+        verify(connection, times(2)).prepareStatement(anyString());
+        verify(connection, times(1)).createStatement();
+    }
+    
+    @Test
+    void assertCollectMinAndMaxValueAgainAfterDatabaseRemoved() throws SQLException {
+        Connection connection = mockConnection(mockDistinctCountStatement(10), mockMinAndMaxValueStatement("1", "100"));
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap("sharding_db", mockDatabase(TypedSPILoader.getService(DatabaseType.class, "MySQL"), connection));
+        ShardingColumnStatisticsTableCollector collector = new ShardingColumnStatisticsTableCollector();
+        collector.collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        collector.collect("foo_db", mock(ShardingSphereTable.class), Collections.singletonMap("foo_db", mockDatabaseWithoutShardingRule()));
+        collector.collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        verify(connection, times(2)).createStatement();
+    }
+    
+    @Test
+    void assertCollectWithUnknownDistinctCount() throws SQLException {
+        Connection connection = mockConnection(mockDistinctCountStatement(0), mockMinAndMaxValueStatement("1", "100"));
+        Map<String, ShardingSphereDatabase> databases = Collections.singletonMap("sharding_db", mockDatabase(TypedSPILoader.getService(DatabaseType.class, "MySQL"), connection));
+        Optional<ShardingSphereTableData> actual = new ShardingColumnStatisticsTableCollector().collect("sharding_db", mock(ShardingSphereTable.class), databases);
+        assertTrue(actual.isPresent());
+        assertNull(actual.get().getRows().get(0).getRows().get(6));
+    }
+    
+    @Test
+    void assertCollectWithoutShardingRule() throws SQLException {
+        assertThat(new ShardingColumnStatisticsTableCollector().collect("sharding_db", mock(ShardingSphereTable.class), Collections.singletonMap("sharding_db", mockDatabaseWithoutShardingRule())),
+                is(Optional.empty()));
+    }
+    
+    private ShardingSphereDatabase mockDatabaseWithoutShardingRule() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(result.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final DatabaseType databaseType, final Connection connection) throws SQLException {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("sharding_db");
+        when(result.getProtocolType()).thenReturn(databaseType);
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getLogicTable()).thenReturn("t_order");
+        when(tableRule.getActualDataNodes()).thenReturn(Collections.singletonList(new DataNode("ds_0.t_order_0")));
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getTableRules()).thenReturn(Collections.singletonMap("t_order", tableRule));
+        when(shardingRule.getShardingColumns(tableRule)).thenReturn(Collections.singletonList("order_id"));
+        when(result.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        when(result.getResourceMetaData().getStorageTypes()).thenReturn(Collections.singletonMap("ds_0", databaseType));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(result.getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("ds_0", dataSource));
+        return result;
+    }
+    
+    private PreparedStatement mockDistinctCountStatement(final int distinctCount) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBigDecimal("DISTINCT_COUNT")).thenReturn(new BigDecimal(distinctCount));
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    private Statement mockMinAndMaxValueStatement(final String minValue, final String maxValue) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString("MIN_VALUE")).thenReturn(minValue);
+        when(resultSet.getString("MAX_VALUE")).thenReturn(maxValue);
+        Statement result = mock(Statement.class);
+        when(result.executeQuery(anyString())).thenReturn(resultSet);
+        return result;
+    }
+    
+    private Connection mockConnection(final PreparedStatement preparedStatement, final Statement statement) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.getCatalog()).thenReturn("db_0");
+        when(result.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(result.createStatement()).thenReturn(statement);
+        return result;
+    }
+}
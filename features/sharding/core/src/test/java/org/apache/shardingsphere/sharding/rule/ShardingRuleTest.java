@@ -486,6 +486,26 @@ class ShardingRuleTest {
         assertThat(actual.get(), is("COLUMN1"));
     }
     
+    @Test
+    void assertGetShardingColumnsForComplexShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithComplexStrategies());
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
+        Collection<String> actual = shardingRule.getShardingColumns(shardingRule.getTableRule("LOGIC_TABLE"));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("column1"));
+        assertTrue(actual.contains("COLUMN2"));
+    }
+    
+    @Test
+    void assertGetShardingColumnsForAllStrategies() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
+        assertThat(shardingRule.getShardingColumns(shardingRule.getTableRule("LOGIC_TABLE")), is(Collections.singleton("column")));
+    }
+    
     private ShardingTableRuleConfiguration createTableRuleConfigWithComplexStrategies() {
         ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
         result.setDatabaseShardingStrategy(new ComplexShardingStrategyConfiguration("COLUMN1,COLUMN2", "CORE.COMPLEX.FIXTURE"));
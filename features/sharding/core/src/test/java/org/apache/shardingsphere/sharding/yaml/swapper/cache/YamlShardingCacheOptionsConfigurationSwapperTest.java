@@ -29,10 +29,12 @@ class YamlShardingCacheOptionsConfigurationSwapperTest {
     
     @Test
     void assertSwapToYamlConfiguration() {
-        YamlShardingCacheOptionsConfiguration actual = new YamlShardingCacheOptionsConfigurationSwapper().swapToYamlConfiguration(new ShardingCacheOptionsConfiguration(true, 128, 1024));
+        YamlShardingCacheOptionsConfiguration actual = new YamlShardingCacheOptionsConfigurationSwapper().swapToYamlConfiguration(new ShardingCacheOptionsConfiguration(true, 128, 1024, 0L, 60000L));
         assertTrue(actual.isSoftValues());
         assertThat(actual.getInitialCapacity(), is(128));
         assertThat(actual.getMaximumSize(), is(1024));
+        assertThat(actual.getMaximumWeight(), is(0L));
+        assertThat(actual.getExpireAfterAccessMillis(), is(60000L));
     }
     
     @Test
@@ -41,9 +43,13 @@ class YamlShardingCacheOptionsConfigurationSwapperTest {
         input.setSoftValues(true);
         input.setInitialCapacity(256);
         input.setMaximumSize(4096);
+        input.setMaximumWeight(1048576L);
+        input.setExpireAfterAccessMillis(60000L);
         ShardingCacheOptionsConfiguration actual = new YamlShardingCacheOptionsConfigurationSwapper().swapToObject(input);
         assertTrue(actual.isSoftValues());
         assertThat(actual.getInitialCapacity(), is(256));
         assertThat(actual.getMaximumSize(), is(4096));
+        assertThat(actual.getMaximumWeight(), is(1048576L));
+        assertThat(actual.getExpireAfterAccessMillis(), is(60000L));
     }
 }
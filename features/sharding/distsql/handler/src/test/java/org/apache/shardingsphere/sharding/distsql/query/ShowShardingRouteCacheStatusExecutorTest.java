@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.distsql.query;
+
+import org.apache.shardingsphere.distsql.handler.query.RQLExecutor;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+import org.apache.shardingsphere.sharding.distsql.handler.query.ShowShardingRouteCacheStatusExecutor;
+import org.apache.shardingsphere.sharding.distsql.parser.statement.ShowShardingRouteCacheStatusStatement;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShowShardingRouteCacheStatusExecutorTest {
+    
+    @Test
+    void assertGetRowData() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        ShardingRule rule = mock(ShardingRule.class, RETURNS_DEEP_STUBS);
+        when(rule.isShardingCacheEnabled()).thenReturn(true);
+        when(rule.getShardingCache().getRouteCache().getStatistics()).thenReturn(createStatistics());
+        when(database.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Collections.singleton(rule)));
+        RQLExecutor<ShowShardingRouteCacheStatusStatement> executor = new ShowShardingRouteCacheStatusExecutor();
+        Collection<LocalDataQueryResultRow> actual = executor.getRows(database, mock(ShowShardingRouteCacheStatusStatement.class));
+        assertThat(actual.size(), is(1));
+        LocalDataQueryResultRow row = actual.iterator().next();
+        assertThat(row.getCell(1), is("t_order"));
+        assertThat(row.getCell(2), is(3L));
+        assertThat(row.getCell(3), is(1L));
+        assertThat(row.getCell(4), is("0.7500"));
+        assertThat(row.getCell(5), is(1L));
+        assertThat(row.getCell(6), is(0L));
+        assertThat(row.getCell(7), is(0L));
+    }
+    
+    @Test
+    void assertGetRowDataWithoutShardingCache() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Collections.singleton(mock(ShardingRule.class))));
+        assertThat(new ShowShardingRouteCacheStatusExecutor().getRows(database, mock(ShowShardingRouteCacheStatusStatement.class)).size(), is(0));
+    }
+    
+    @Test
+    void assertGetColumnNames() {
+        RQLExecutor<ShowShardingRouteCacheStatusStatement> executor = new ShowShardingRouteCacheStatusExecutor();
+        Collection<String> columns = executor.getColumnNames();
+        assertThat(columns.size(), is(7));
+        Iterator<String> iterator = columns.iterator();
+        assertThat(iterator.next(), is("logic_table"));
+        assertThat(iterator.next(), is("hit_count"));
+        assertThat(iterator.next(), is("miss_count"));
+        assertThat(iterator.next(), is("hit_ratio"));
+        assertThat(iterator.next(), is("uncacheable_count"));
+        assertThat(iterator.next(), is("bypass_count"));
+        assertThat(iterator.next(), is("eviction_count"));
+    }
+    
+    private ShardingRouteCacheStatistics createStatistics() {
+        ShardingRouteCacheStatistics result = new ShardingRouteCacheStatistics();
+        result.recordHit("t_order");
+        result.recordHit("t_order");
+        result.recordHit("t_order");
+        result.recordMiss("t_order");
+        result.recordUncacheable("t_order");
+        return result;
+    }
+}
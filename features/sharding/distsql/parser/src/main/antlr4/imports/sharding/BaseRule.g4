@@ -23,6 +23,14 @@ literal
     : STRING_ | (MINUS_)? INT_ | TRUE | FALSE
     ;
 
+identifier
+    : IDENTIFIER_ | unreservedWord
+    ;
+
+unreservedWord
+    : ROUTE | CACHE | STATUS
+    ;
+
 algorithmDefinition
     : TYPE LP_ NAME EQ_ algorithmTypeName (COMMA_ propertiesDefinition)? RP_
     ;
@@ -72,21 +80,21 @@ property
     ;
 
 tableName
-    : IDENTIFIER_
+    : identifier
     ;
 
 shardingAlgorithmName
-    : IDENTIFIER_
+    : identifier
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 ruleName
-    : IDENTIFIER_
+    : identifier
     ;
@@ -302,3 +302,15 @@ NOT
 NONE
     : N O N E
     ;
+
+ROUTE
+    : R O U T E
+    ;
+
+CACHE
+    : C A C H E
+    ;
+
+STATUS
+    : S T A T U S
+    ;
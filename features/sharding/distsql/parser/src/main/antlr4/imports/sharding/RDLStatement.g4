@@ -80,7 +80,7 @@ shardingTableRule
     ;
 
 keyGeneratorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 auditorDefinition
@@ -88,7 +88,7 @@ auditorDefinition
     ;
 
 auditorName
-    : IDENTIFIER_
+    : identifier
     ;
 
 storageUnits
@@ -96,7 +96,7 @@ storageUnits
     ;
 
 storageUnit
-    : IDENTIFIER_ | STRING_
+    : identifier | STRING_
     ;
 
 dataNodes
@@ -160,7 +160,7 @@ auditAllowHintDisable
     ;
 
 columnName
-    : IDENTIFIER_
+    : identifier
     ;
 
 tableReferenceRuleDefinition
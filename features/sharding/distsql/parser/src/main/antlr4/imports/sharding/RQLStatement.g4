@@ -75,10 +75,14 @@ countShardingRule
     : COUNT SHARDING RULE (FROM databaseName)?
     ;
 
+showShardingRouteCacheStatus
+    : SHOW SHARDING ROUTE CACHE STATUS (FROM databaseName)?
+    ;
+
 tableRule
     : RULE tableName
     ;
 
 databaseName
-    : IDENTIFIER_
+    : identifier
     ;
@@ -46,5 +46,6 @@ execute
     | showUnusedShardingKeyGenerators
     | showUnusedShardingAuditors
     | countShardingRule
+    | showShardingRouteCacheStatus
     ) SEMI_? EOF
     ;
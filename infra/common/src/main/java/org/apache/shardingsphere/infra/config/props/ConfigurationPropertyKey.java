@@ -52,11 +52,38 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with a new virtual thread per task, only available on JDK 21 or later.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max grouped rows kept in memory when merging group by results, exceeded rows spill to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group-by-merge-max-memory-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether merge count distinct values approximately with HyperLogLog.
+     */
+    APPROXIMATE_COUNT_DISTINCT_ENABLED("approximate-count-distinct-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max rows coalesced into one multi-row insert statement when executing batch insert on sharding tables.
+     * Less than or equal to 1 means do not coalesce.
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch-insert-coalesce-max-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max estimated bytes of one coalesced multi-row insert statement, including SQL and parameters.
+     */
+    BATCH_INSERT_COALESCE_MAX_BYTES("batch-insert-coalesce-max-bytes", String.valueOf(1048576), int.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -72,6 +99,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Max bytes of query result rows buffered before flushing to client for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_MAX_FLUSH_BYTES("proxy-frontend-max-flush-bytes", String.valueOf(262144), int.class, false),
+    
+    /**
+     * Max cached execution plans of server prepared statements per connection for ShardingSphere-Proxy, 0 means disable plan cache.
+     */
+    PROXY_PREPARED_STATEMENT_PLAN_CACHE_SIZE("proxy-prepared-statement-plan-cache-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether replace literals of text protocol DML statements with parameters for ShardingSphere-Proxy, so statements only differ in literals can share parsed SQL statement cache.
+     */
+    PROXY_FRONTEND_LITERAL_PARAMETERIZE_ENABLED("proxy-frontend-literal-parameterize-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -83,6 +125,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute proxy frontend commands with virtual threads, only available on JDK 21 or later.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
@@ -43,6 +44,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere database.
@@ -60,6 +62,9 @@ public final class ShardingSphereDatabase {
     
     private final Map<String, ShardingSphereSchema> schemas;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     public ShardingSphereDatabase(final String name, final DatabaseType protocolType, final ShardingSphereResourceMetaData resourceMetaData,
                                   final ShardingSphereRuleMetaData ruleMetaData, final Map<String, ShardingSphereSchema> schemas) {
         this.name = name;
@@ -142,7 +147,7 @@ public final class ShardingSphereDatabase {
      * @param schema schema
      */
     public void putSchema(final String schemaName, final ShardingSphereSchema schema) {
-        schemas.put(schemaName.toLowerCase(), schema);
+        retireSchema(schemas.put(schemaName.toLowerCase(), schema));
     }
     
     /**
@@ -151,7 +156,24 @@ public final class ShardingSphereDatabase {
      * @param schemaName schema name
      */
     public void removeSchema(final String schemaName) {
-        schemas.remove(schemaName.toLowerCase());
+        retireSchema(schemas.remove(schemaName.toLowerCase()));
+    }
+    
+    private void retireSchema(final ShardingSphereSchema schema) {
+        version.addAndGet(null == schema ? 1L : schema.getVersion() + 1L);
+    }
+    
+    /**
+     * Get meta data version, which increases when schemas, tables, views or rules of database changed.
+     *
+     * @return meta data version
+     */
+    public long getMetaDataVersion() {
+        long result = version.get();
+        for (ShardingSphereSchema each : schemas.values()) {
+            result += each.getVersion();
+        }
+        return result;
     }
     
     /**
@@ -197,5 +219,6 @@ public final class ShardingSphereDatabase {
         });
         ruleMetaData.getRules().clear();
         ruleMetaData.getRules().addAll(databaseRules);
+        version.incrementAndGet();
     }
 }
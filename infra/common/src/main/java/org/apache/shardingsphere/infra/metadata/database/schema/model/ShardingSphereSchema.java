@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -36,6 +38,9 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereView> views;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
@@ -95,6 +100,7 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        version.incrementAndGet();
     }
     
     /**
@@ -105,6 +111,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final String viewName, final ShardingSphereView view) {
         views.put(viewName.toLowerCase(), view);
+        version.incrementAndGet();
     }
     
     /**
@@ -125,6 +132,7 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        version.incrementAndGet();
     }
     
     /**
@@ -134,6 +142,16 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(viewName.toLowerCase());
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Get version, which increases when tables or views changed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
     }
     
     /**
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.metadata.database;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
@@ -73,4 +75,20 @@ class ShardingSphereDatabaseTest {
         database.reloadRules(MutableDataNodeRule.class);
         assertThat(database.getRuleMetaData().getRules().size(), is(3));
     }
+    
+    @Test
+    void assertGetMetaDataVersion() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                mock(ShardingSphereRuleMetaData.class), Collections.singletonMap("foo_schema", schema));
+        assertThat(database.getMetaDataVersion(), is(0L));
+        schema.putTable("foo_tbl", mock(ShardingSphereTable.class));
+        assertThat(database.getMetaDataVersion(), is(1L));
+        schema.removeTable("foo_tbl");
+        assertThat(database.getMetaDataVersion(), is(2L));
+        database.removeSchema("foo_schema");
+        assertThat(database.getMetaDataVersion(), is(3L));
+        database.putSchema("foo_schema", new ShardingSphereSchema());
+        assertThat(database.getMetaDataVersion(), is(4L));
+    }
 }
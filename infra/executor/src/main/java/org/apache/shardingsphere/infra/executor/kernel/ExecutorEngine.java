@@ -25,13 +25,21 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceMan
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor engine.
@@ -47,6 +55,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, "%d", virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -57,6 +69,19 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and virtual thread switch.
+     * 
+     * <p>Executor size will be ignored if virtual thread enabled and supported by current JVM.</p>
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether execute each task with a new virtual thread
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -107,11 +132,31 @@ public final class ExecutorEngine implements AutoCloseable {
      */
     public <I, O> List<O> execute(final ExecutionGroupContext<I> executionGroupContext,
                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) throws SQLException {
+        return execute(executionGroupContext, firstCallback, callback, serial, 0L);
+    }
+    
+    /**
+     * Execute.
+     * 
+     * <p>For parallel execution, rest groups still running when timeout reached are cancelled. Serial execution is not limited by timeout.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param timeoutMillis timeout in milliseconds, 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> execute(final ExecutionGroupContext<I> executionGroupContext,
+                                  final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial, final long timeoutMillis) throws SQLException {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
         return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, timeoutMillis);
     }
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
@@ -123,42 +168,84 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                                           final long timeoutMillis) throws SQLException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Map<Future<Collection<O>>, ExecutionGroup<I>> restResultFutures = asyncExecute(executionGroups, callback, completionService);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel(restResultFutures, callback);
+            throw ex;
+        }
+        return getGroupResults(firstResults, restResultFutures, completionService, callback, timeoutMillis, deadlineNanos);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true);
+        return executeGroup(executionGroup, callback, true);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
-        while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+    private <I, O> Collection<O> executeGroup(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final boolean isTrunkThread) throws SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            return callback.execute(executionGroup.getInputs(), isTrunkThread);
+        } finally {
+            callback.reportGroupLatency(executionGroup.getInputs(), System.nanoTime() - startNanos);
         }
-        return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
+    private <I, O> Map<Future<Collection<O>>, ExecutionGroup<I>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback,
+                                                                            final CompletionService<Collection<O>> completionService) {
+        Map<Future<Collection<O>>, ExecutionGroup<I>> result = new LinkedHashMap<>();
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            result.put(completionService.submit(() -> executeGroup(each, callback, false)), each);
+        }
+        return result;
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
+    private <I, O> List<O> getGroupResults(final Collection<O> firstResults, final Map<Future<Collection<O>>, ExecutionGroup<I>> restFutures,
+                                           final CompletionService<Collection<O>> completionService, final ExecutorCallback<I, O> callback,
+                                           final long timeoutMillis, final long deadlineNanos) throws SQLException {
+        Map<Future<Collection<O>>, Collection<O>> restResults = new HashMap<>(restFutures.size(), 1F);
+        while (restResults.size() < restFutures.size()) {
             try {
-                result.addAll(each.get());
+                Future<Collection<O>> completedFuture = timeoutMillis > 0L ? completionService.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS) : completionService.take();
+                if (null == completedFuture) {
+                    cancel(restFutures, callback);
+                    throw new SQLTimeoutException(String.format("Execution timed out after %d milliseconds.", timeoutMillis));
+                }
+                restResults.put(completedFuture, completedFuture.get());
             } catch (final InterruptedException ex) {
+                cancel(restFutures, callback);
                 Thread.currentThread().interrupt();
+                throw new SQLException("Execution is interrupted.", ex);
             } catch (final ExecutionException ex) {
+                cancel(restFutures, callback);
                 return throwException(ex);
             }
         }
+        List<O> result = new LinkedList<>(firstResults);
+        for (Future<Collection<O>> each : restFutures.keySet()) {
+            result.addAll(restResults.get(each));
+        }
         return result;
     }
     
+    private <I, O> void cancel(final Map<Future<Collection<O>>, ExecutionGroup<I>> futures, final ExecutorCallback<I, O> callback) {
+        for (Entry<Future<Collection<O>>, ExecutionGroup<I>> entry : futures.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                callback.cancel(entry.getValue().getInputs());
+                entry.getKey().cancel(true);
+            }
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -37,4 +37,21 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread) throws SQLException;
+    
+    /**
+     * Cancel execution of inputs which are still running.
+     *
+     * @param inputs input values
+     */
+    default void cancel(Collection<I> inputs) {
+    }
+    
+    /**
+     * Report latency of execution group, whether the execution succeeded or not.
+     *
+     * @param inputs input values
+     * @param latencyNanos latency in nanoseconds
+     */
+    default void reportGroupLatency(Collection<I> inputs, long latencyNanos) {
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executors.
+ * 
+ * <p>Virtual threads are created by reflection, because they are only available on JDK 21 or later while ShardingSphere is compiled with JDK 8.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutors {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format, {@code %d} will be replaced with thread sequence
+     * @return virtual thread factory
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ThreadFactory newThreadFactory(final String nameFormat) {
+        Object builder = OF_VIRTUAL_METHOD.invoke(null);
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, NAME_FORMAT_PREFIX + nameFormat.replace("%d", ""), 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format, {@code %d} will be replaced with thread sequence
+     * @return executor service
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService newThreadPerTaskExecutor(final String nameFormat) {
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, newThreadFactory(nameFormat));
+    }
+}
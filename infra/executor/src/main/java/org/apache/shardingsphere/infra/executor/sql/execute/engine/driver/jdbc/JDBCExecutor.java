@@ -20,12 +20,14 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JDBC executor.
@@ -63,11 +65,28 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        String databaseName = null == executionGroupContext.getReportContext() ? null : executionGroupContext.getReportContext().getDatabaseName();
+        if (null != callback) {
+            callback.setDatabaseName(databaseName);
+        }
+        if (null != firstCallback) {
+            firstCallback.setDatabaseName(databaseName);
+        }
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction());
+            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction(), getTimeoutMillis(executionGroupContext));
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    private long getTimeoutMillis(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        int result = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit unit : each.getInputs()) {
+                result = Math.max(result, unit.getStorageResource().getQueryTimeout());
+            }
+        }
+        return TimeUnit.SECONDS.toMillis(result);
+    }
 }
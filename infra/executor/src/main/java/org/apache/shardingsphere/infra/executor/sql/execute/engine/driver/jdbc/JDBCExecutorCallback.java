@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -44,6 +47,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * @param <T> class type of return value
  */
 @RequiredArgsConstructor
+@Slf4j
 public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCExecutionUnit, T> {
     
     private static final Map<String, DataSourceMetaData> CACHED_DATASOURCE_METADATA = new ConcurrentHashMap<>();
@@ -58,6 +62,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    @Setter(AccessLevel.PACKAGE)
+    private String databaseName;
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
@@ -83,7 +90,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
-            sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread);
+            sqlExecutionHook.start(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution();
@@ -92,12 +99,36 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (!storageType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
+                    sqlExecutionHook.finishSuccess();
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
             sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            sqlExecutionHook.finishFailure(ex);
+            throw ex;
+        }
+    }
+    
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel statement of data source `{}` failed.", each.getExecutionUnit().getDataSourceName(), ex);
+            }
+        }
+    }
+    
+    @Override
+    public final void reportGroupLatency(final Collection<JDBCExecutionUnit> executionUnits, final long latencyNanos) {
+        if (log.isDebugEnabled() && !executionUnits.isEmpty()) {
+            log.debug("Executed {} SQL units of data source `{}` in {} ms.", executionUnits.size(), executionUnits.iterator().next().getExecutionUnit().getDataSourceName(), latencyNanos / 1000000L);
         }
     }
     
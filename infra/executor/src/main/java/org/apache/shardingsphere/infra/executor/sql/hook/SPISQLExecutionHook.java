@@ -37,6 +37,13 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
         }
     }
     
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread) {
+        for (SQLExecutionHook each : sqlExecutionHooks) {
+            each.start(databaseName, dataSourceName, sql, params, dataSourceMetaData, isTrunkThread);
+        }
+    }
+    
     @Override
     public void finishSuccess() {
         for (SQLExecutionHook each : sqlExecutionHooks) {
@@ -37,6 +37,20 @@ public interface SQLExecutionHook {
      */
     void start(String dataSourceName, String sql, List<Object> params, DataSourceMetaData dataSourceMetaData, boolean isTrunkThread);
     
+    /**
+     * Handle when SQL execution started with database name.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param dataSourceMetaData data source meta data
+     * @param isTrunkThread is execution in trunk thread
+     */
+    default void start(String databaseName, String dataSourceName, String sql, List<Object> params, DataSourceMetaData dataSourceMetaData, boolean isTrunkThread) {
+        start(dataSourceName, sql, params, dataSourceMetaData, isTrunkThread);
+    }
+    
     /**
      * Handle when SQL execution finished success.
      */
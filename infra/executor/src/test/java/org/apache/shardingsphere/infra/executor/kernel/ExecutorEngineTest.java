@@ -21,18 +21,23 @@ import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackF
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -104,4 +109,86 @@ class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    void assertParallelExecuteWithFailure() {
+        assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, firstCallback, (inputs, isTrunkThread) -> {
+            throw new SQLException("failed");
+        }, false));
+    }
+    
+    @Test
+    void assertParallelExecuteCancelRestGroupsWhenFirstGroupFailed() throws InterruptedException {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        AtomicInteger cancelledInputCount = new AtomicInteger();
+        ExecutorCallback<Object, String> blockingCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread) {
+                try {
+                    cancelledLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return new LinkedList<>();
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                cancelledInputCount.addAndGet(inputs.size());
+                cancelledLatch.countDown();
+            }
+        };
+        assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, (inputs, isTrunkThread) -> {
+            throw new SQLException("failed");
+        }, blockingCallback, false));
+        cancelledLatch.await();
+        assertThat(cancelledInputCount.get(), is(2));
+    }
+    
+    @Test
+    void assertParallelExecuteCancelRestGroupsWhenTimeout() throws InterruptedException {
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        AtomicInteger cancelledInputCount = new AtomicInteger();
+        ExecutorCallback<Object, String> blockingCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread) {
+                try {
+                    cancelledLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return new LinkedList<>();
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                cancelledInputCount.addAndGet(inputs.size());
+                cancelledLatch.countDown();
+            }
+        };
+        assertThrows(SQLTimeoutException.class, () -> executorEngine.execute(executionGroupContext, (inputs, isTrunkThread) -> Collections.emptyList(), blockingCallback, false, 10L));
+        cancelledLatch.await();
+        assertThat(cancelledInputCount.get(), is(2));
+    }
+    
+    @Test
+    void assertParallelExecuteReportGroupLatency() throws SQLException {
+        AtomicInteger reportedInputCount = new AtomicInteger();
+        ExecutorCallback<Object, String> reportedCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread) {
+                return Collections.singletonList("foo");
+            }
+            
+            @Override
+            public void reportGroupLatency(final Collection<Object> inputs, final long latencyNanos) {
+                reportedInputCount.addAndGet(inputs.size());
+            }
+        };
+        assertThat(executorEngine.execute(executionGroupContext, reportedCallback).size(), is(2));
+        assertThat(reportedInputCount.get(), is(4));
+    }
 }
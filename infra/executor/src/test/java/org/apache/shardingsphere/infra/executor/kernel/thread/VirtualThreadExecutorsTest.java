@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadExecutorsTest {
+    
+    @Test
+    void assertNewThreadFactory() {
+        assumeTrue(VirtualThreadExecutors.isSupported());
+        Thread thread = VirtualThreadExecutors.newThreadFactory("test-%d").newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+    }
+    
+    @Test
+    void assertNewThreadPerTaskExecutor() throws ExecutionException, InterruptedException {
+        assumeTrue(VirtualThreadExecutors.isSupported());
+        ExecutorService executorService = VirtualThreadExecutors.newThreadPerTaskExecutor("test-%d");
+        assertThat(executorService.submit(() -> Thread.currentThread().getName().startsWith("ShardingSphere-test-")).get(), is(true));
+        executorService.shutdown();
+    }
+}
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.infra.expr.espresso;
 
 import groovy.lang.Closure;
+import org.apache.shardingsphere.infra.expr.hotsopt.GroovyInlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.expr.hotsopt.HotspotInlineExpressionParser;
+import org.apache.shardingsphere.infra.expr.hotsopt.SimpleInlineExpressionEvaluator;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.graalvm.polyglot.Context;
@@ -74,6 +77,12 @@ public final class EspressoInlineExpressionParser implements InlineExpressionPar
         }
     }
     
+    @Override
+    public InlineExpressionEvaluator compile(final String inlineExpression) {
+        InlineExpressionEvaluator result = variables -> new GroovyInlineExpressionEvaluator(evaluateClosure(inlineExpression)).evaluate(variables);
+        return SimpleInlineExpressionEvaluator.compile(inlineExpression, result).orElse(result);
+    }
+    
     private Value createInlineExpressionParser(final Context context) {
         return context.getBindings("java").getMember(HotspotInlineExpressionParser.class.getName()).newInstance();
     }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.hotsopt;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Groovy inline expression evaluator.
+ */
+@RequiredArgsConstructor
+public final class GroovyInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private final Closure<?> closure;
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        Closure<?> result = closure.rehydrate(new Expando(new HashMap<>(variables)), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result.call().toString();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.hotsopt;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Simple inline expression evaluator.
+ * 
+ * <p>Evaluate expressions like {@code t_order_${order_id % 16}} or {@code ds_${user_id % 2 + 1}} with direct arithmetic and string concatenation.
+ * Values the arithmetic can not reproduce exactly, such as strings, decimals or missing variables, are delegated to the fallback evaluator.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SimpleInlineExpressionEvaluator implements InlineExpressionEvaluator {
+    
+    private static final Pattern TERM_PATTERN = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)(?:\\s*%\\s*(\\d{1,9}))?(?:\\s*([+-])\\s*(\\d{1,9}))?");
+    
+    private final List<String> literals;
+    
+    private final List<Term> terms;
+    
+    private final InlineExpressionEvaluator fallbackEvaluator;
+    
+    /**
+     * Compile inline expression to simple evaluator.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @param fallbackEvaluator fallback evaluator
+     * @return simple evaluator, empty if inline expression is not simple
+     */
+    public static Optional<InlineExpressionEvaluator> compile(final String inlineExpression, final InlineExpressionEvaluator fallbackEvaluator) {
+        List<String> literals = new ArrayList<>();
+        List<Term> terms = new ArrayList<>();
+        int index = 0;
+        while (true) {
+            int start = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, start < 0 ? inlineExpression.length() : start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (start < 0) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (end < 0) {
+                return Optional.empty();
+            }
+            Optional<Term> term = parseTerm(inlineExpression.substring(start + 2, end).trim());
+            if (!term.isPresent()) {
+                return Optional.empty();
+            }
+            terms.add(term.get());
+            index = end + 1;
+        }
+        return terms.isEmpty() ? Optional.empty() : Optional.of(new SimpleInlineExpressionEvaluator(literals, terms, fallbackEvaluator));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('$' == each || '{' == each || '}' == each || '"' == each || '\\' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Optional<Term> parseTerm(final String term) {
+        Matcher matcher = TERM_PATTERN.matcher(term);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        long modulus = null == matcher.group(2) ? 0L : Long.parseLong(matcher.group(2));
+        if (null != matcher.group(2) && 0L == modulus) {
+            return Optional.empty();
+        }
+        long offset = null == matcher.group(4) ? 0L : Long.parseLong(matcher.group(4));
+        return Optional.of(new Term(matcher.group(1), modulus, "-".equals(matcher.group(3)) ? -offset : offset, null != matcher.group(3)));
+    }
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < terms.size(); i++) {
+            Optional<String> value = terms.get(i).evaluate(variables);
+            if (!value.isPresent()) {
+                return fallbackEvaluator.evaluate(variables);
+            }
+            result.append(value.get()).append(literals.get(i + 1));
+        }
+        return result.toString();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Term {
+        
+        private final String variableName;
+        
+        private final long modulus;
+        
+        private final long offset;
+        
+        private final boolean hasOffset;
+        
+        private Optional<String> evaluate(final Map<String, ?> variables) {
+            Object value = variables.get(variableName);
+            if (0L == modulus && !hasOffset) {
+                return value instanceof String || value instanceof Number || value instanceof Character || value instanceof Boolean ? Optional.of(value.toString()) : Optional.empty();
+            }
+            if (value instanceof Long) {
+                return Optional.of(String.valueOf(calculate((Long) value)));
+            }
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                long result = calculate(((Number) value).longValue());
+                return result == (int) result ? Optional.of(String.valueOf(result)) : Optional.empty();
+            }
+            return Optional.empty();
+        }
+        
+        private long calculate(final long value) {
+            return (0L == modulus ? value : value % modulus) + offset;
+        }
+    }
+}
@@ -117,4 +117,10 @@ class HotspotInlineExpressionParserTest {
     void assertEvaluateClosure() {
         assertThat(new HotspotInlineExpressionParser().evaluateClosure("${1+2}").call().toString(), is("3"));
     }
+    
+    @Test
+    void assertCompile() {
+        assertThat(new HotspotInlineExpressionParser().compile("t_order_${order_id % 2}").evaluate(Collections.singletonMap("order_id", 3)), is("t_order_1"));
+        assertThat(new HotspotInlineExpressionParser().compile("t_order_${order_id.toString().length()}").evaluate(Collections.singletonMap("order_id", 100)), is("t_order_3"));
+    }
 }
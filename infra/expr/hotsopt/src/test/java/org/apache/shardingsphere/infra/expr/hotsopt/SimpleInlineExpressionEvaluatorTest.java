@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.hotsopt;
+
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleInlineExpressionEvaluatorTest {
+    
+    private static final InlineExpressionEvaluator FALLBACK_EVALUATOR = variables -> "fallback";
+    
+    @Test
+    void assertEvaluateModulo() {
+        Optional<InlineExpressionEvaluator> actual = SimpleInlineExpressionEvaluator.compile("t_order_${order_id % 16}", FALLBACK_EVALUATOR);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", 35)), is("t_order_3"));
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", -35L)), is("t_order_-3"));
+    }
+    
+    @Test
+    void assertEvaluateModuloWithOffset() {
+        Optional<InlineExpressionEvaluator> actual = SimpleInlineExpressionEvaluator.compile("ds_${user_id % 2 + 1}", FALLBACK_EVALUATOR);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("user_id", 3)), is("ds_2"));
+    }
+    
+    @Test
+    void assertEvaluateMultipleVariables() {
+        Optional<InlineExpressionEvaluator> actual = SimpleInlineExpressionEvaluator.compile("t_${type}_${order_id % 2}", FALLBACK_EVALUATOR);
+        assertTrue(actual.isPresent());
+        Map<String, Object> variables = new HashMap<>(2, 1F);
+        variables.put("type", "new");
+        variables.put("order_id", 5L);
+        assertThat(actual.get().evaluate(variables), is("t_new_1"));
+    }
+    
+    @Test
+    void assertEvaluateWithFallback() {
+        Optional<InlineExpressionEvaluator> actual = SimpleInlineExpressionEvaluator.compile("t_order_${order_id % 2}", FALLBACK_EVALUATOR);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", "1")), is("fallback"));
+        assertThat(actual.get().evaluate(Collections.singletonMap("order_id", new BigDecimal("1.5"))), is("fallback"));
+        assertThat(actual.get().evaluate(Collections.singletonMap("user_id", 1)), is("fallback"));
+    }
+    
+    @Test
+    void assertCompileComplexExpression() {
+        assertFalse(SimpleInlineExpressionEvaluator.compile("t_order_${order_id.hashCode() % 2}", FALLBACK_EVALUATOR).isPresent());
+        assertFalse(SimpleInlineExpressionEvaluator.compile("t_order_${order_id % 0}", FALLBACK_EVALUATOR).isPresent());
+        assertFalse(SimpleInlineExpressionEvaluator.compile("t_order_${[0, 1]}", FALLBACK_EVALUATOR).isPresent());
+        assertFalse(SimpleInlineExpressionEvaluator.compile("t_order", FALLBACK_EVALUATOR).isPresent());
+    }
+}
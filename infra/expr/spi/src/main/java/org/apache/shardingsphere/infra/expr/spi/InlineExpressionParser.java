@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.infra.expr.spi;
 
 import groovy.lang.Closure;
+import groovy.util.Expando;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -52,4 +54,19 @@ public interface InlineExpressionParser extends TypedSPI {
      * @return closure
      */
     Closure<?> evaluateClosure(String inlineExpression);
+    
+    /**
+     * Compile inline expression to evaluator.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled evaluator, which is reusable and thread-safe
+     */
+    default InlineExpressionEvaluator compile(final String inlineExpression) {
+        Closure<?> closure = evaluateClosure(inlineExpression);
+        return variables -> {
+            Closure<?> result = closure.rehydrate(new Expando(new HashMap<>(variables)), null, null);
+            result.setResolveStrategy(Closure.DELEGATE_ONLY);
+            return result.call().toString();
+        };
+    }
 }
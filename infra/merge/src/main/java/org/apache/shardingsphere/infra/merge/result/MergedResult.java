@@ -82,4 +82,12 @@ public interface MergedResult {
      * @throws SQLException SQL exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by it.
+     * 
+     * @throws SQLException SQL exception
+     */
+    default void close() throws SQLException {
+    }
 }
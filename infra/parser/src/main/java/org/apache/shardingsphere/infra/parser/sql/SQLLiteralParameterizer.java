@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import lombok.AllArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ * 
+ * <p>Replace literals of DML statements with parameter markers by a lightweight lexical scan, so statements which only differ in literals share the same parsed SQL statement.
+ * Only literals in predicate, assignment, values and pagination positions are replaced, projections and other positions keep their literals.</p>
+ */
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "REPLACE", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "SELECT", "FROM", "JOIN", "ON", "USING", "WHERE", "GROUP", "HAVING", "ORDER", "LIMIT", "OFFSET", "INTO", "VALUES", "VALUE", "SET", "UPDATE", "UNION", "FOR", "RETURNING"));
+    
+    private static final Collection<String> PREDICATE_CLAUSES = new HashSet<>(Arrays.asList("ON", "WHERE", "HAVING", "SET", "UPDATE"));
+    
+    private static final Collection<String> VALUES_CLAUSES = new HashSet<>(Arrays.asList("VALUES", "VALUE"));
+    
+    private static final Collection<String> PAGINATION_CLAUSES = new HashSet<>(Arrays.asList("LIMIT", "OFFSET"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "LIKE", "BETWEEN"));
+    
+    private static final String OPERATOR_CHARS = "<>=!:|&+-*/%^~";
+    
+    private static final String OPAQUE_TOKEN = "";
+    
+    private final boolean mySQLDialect;
+    
+    public SQLLiteralParameterizer(final String databaseType) {
+        mySQLDialect = "MySQL".equals(databaseType);
+    }
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL is not a single DML statement or there is no literal could be parameterized
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        List<Object> params = new ArrayList<>();
+        Deque<Scope> scopes = new LinkedList<>();
+        scopes.push(new Scope(OPAQUE_TOKEN, false));
+        String previousToken = null;
+        boolean betweenPending = false;
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            int end;
+            if (Character.isWhitespace(each)) {
+                result.append(each);
+                index++;
+                continue;
+            }
+            if (isCommentStart(sql, index)) {
+                end = skipComment(sql, index);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                result.append(sql, index, end);
+                index = end;
+                continue;
+            }
+            if (null == previousToken && !isIdentifierStart(each)) {
+                return Optional.empty();
+            }
+            if ('\'' == each) {
+                end = skipQuoted(sql, index, '\'', mySQLDialect);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                String literal = sql.substring(index, end);
+                if (isParameterizable(previousToken, scopes.peek()) && !(mySQLDialect && literal.indexOf('\\') >= 0) && !isFollowedByQuote(sql, end)) {
+                    result.append('?');
+                    params.add(literal.substring(1, literal.length() - 1).replace("''", "'"));
+                } else {
+                    result.append(literal);
+                }
+                previousToken = OPAQUE_TOKEN;
+                index = end;
+                continue;
+            }
+            if ('"' == each || '`' == each) {
+                end = skipQuoted(sql, index, each, mySQLDialect && '"' == each);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                result.append(sql, index, end);
+                previousToken = OPAQUE_TOKEN;
+                index = end;
+                continue;
+            }
+            if (Character.isDigit(each)) {
+                end = skipNumber(sql, index);
+                if (end < length && isIdentifierPart(sql.charAt(end))) {
+                    end = skipIdentifier(sql, end);
+                    result.append(sql, index, end);
+                } else if (isParameterizable(previousToken, scopes.peek())) {
+                    result.append('?');
+                    params.add(new NumberLiteralValue(sql.substring(index, end)).getValue());
+                } else {
+                    result.append(sql, index, end);
+                }
+                previousToken = OPAQUE_TOKEN;
+                index = end;
+                continue;
+            }
+            if (isIdentifierStart(each)) {
+                end = skipIdentifier(sql, index);
+                String word = sql.substring(index, end);
+                if (end < length && '\'' == sql.charAt(end)) {
+                    end = skipQuoted(sql, end, '\'', mySQLDialect || 1 == word.length() && 'E' == Character.toUpperCase(each));
+                    if (end < 0) {
+                        return Optional.empty();
+                    }
+                    result.append(sql, index, end);
+                    previousToken = OPAQUE_TOKEN;
+                    index = end;
+                    continue;
+                }
+                String keyword = word.toUpperCase();
+                if (null == previousToken && !DML_KEYWORDS.contains(keyword)) {
+                    return Optional.empty();
+                }
+                if (CLAUSE_KEYWORDS.contains(keyword) && !".".equals(previousToken)) {
+                    scopes.peek().clause = keyword;
+                }
+                if ("BETWEEN".equals(keyword)) {
+                    betweenPending = true;
+                } else if ("AND".equals(keyword) && betweenPending) {
+                    betweenPending = false;
+                    // the upper bound of BETWEEN is parameterizable as same as the lower bound
+                    keyword = "BETWEEN";
+                }
+                result.append(word);
+                previousToken = keyword;
+                index = end;
+                continue;
+            }
+            if ('?' == each || '$' == each || ';' == each) {
+                return Optional.empty();
+            }
+            if ('(' == each) {
+                Scope scope = scopes.peek();
+                boolean list = "IN".equals(previousToken) || VALUES_CLAUSES.contains(scope.clause) && (VALUES_CLAUSES.contains(previousToken) || ",".equals(previousToken));
+                scopes.push(new Scope(scope.clause, list));
+            } else if (')' == each) {
+                if (scopes.size() < 2) {
+                    return Optional.empty();
+                }
+                scopes.pop();
+            }
+            end = OPERATOR_CHARS.indexOf(each) >= 0 ? skipOperator(sql, index) : index + 1;
+            result.append(sql, index, end);
+            previousToken = sql.substring(index, end);
+            index = end;
+        }
+        return params.isEmpty() || scopes.size() > 1 ? Optional.empty() : Optional.of(new ParameterizedSQL(result.toString(), params));
+    }
+    
+    private boolean isParameterizable(final String previousToken, final Scope scope) {
+        boolean listElement = scope.list && ("(".equals(previousToken) || ",".equals(previousToken));
+        if (PREDICATE_CLAUSES.contains(scope.clause)) {
+            return COMPARISON_OPERATORS.contains(previousToken) || listElement;
+        }
+        if (VALUES_CLAUSES.contains(scope.clause)) {
+            return listElement;
+        }
+        if (PAGINATION_CLAUSES.contains(scope.clause)) {
+            return PAGINATION_CLAUSES.contains(previousToken) || ",".equals(previousToken);
+        }
+        return false;
+    }
+    
+    private boolean isCommentStart(final String sql, final int index) {
+        char current = sql.charAt(index);
+        if (mySQLDialect && '#' == current) {
+            return true;
+        }
+        if (index + 1 >= sql.length()) {
+            return false;
+        }
+        char next = sql.charAt(index + 1);
+        if ('/' == current && '*' == next) {
+            return true;
+        }
+        if ('-' != current || '-' != next) {
+            return false;
+        }
+        return !mySQLDialect || index + 2 >= sql.length() || Character.isWhitespace(sql.charAt(index + 2));
+    }
+    
+    private int skipComment(final String sql, final int index) {
+        if ('/' == sql.charAt(index) && '*' == sql.charAt(index + 1)) {
+            // MySQL executable comment contains SQL which should be parsed
+            if (index + 2 < sql.length() && '!' == sql.charAt(index + 2)) {
+                return -1;
+            }
+            int result = sql.indexOf("*/", index + 2);
+            return result < 0 ? -1 : result + 2;
+        }
+        int result = sql.indexOf('\n', index);
+        return result < 0 ? sql.length() : result + 1;
+    }
+    
+    private int skipQuoted(final String sql, final int index, final char quote, final boolean backslashEscapes) {
+        int result = index + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if (backslashEscapes && '\\' == each) {
+                result += 2;
+                continue;
+            }
+            if (quote == each) {
+                if (result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result + 1;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private int skipNumber(final String sql, final int index) {
+        int result = skipDigits(sql, index);
+        if (result < sql.length() && '.' == sql.charAt(result)) {
+            result = skipDigits(sql, result + 1);
+        }
+        if (result + 1 < sql.length() && ('e' == sql.charAt(result) || 'E' == sql.charAt(result))) {
+            int exponentStart = '+' == sql.charAt(result + 1) || '-' == sql.charAt(result + 1) ? result + 2 : result + 1;
+            if (exponentStart < sql.length() && Character.isDigit(sql.charAt(exponentStart))) {
+                result = skipDigits(sql, exponentStart);
+            }
+        }
+        return result;
+    }
+    
+    private int skipDigits(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipIdentifier(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && isIdentifierPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipOperator(final String sql, final int index) {
+        int result = index + 1;
+        while (result < sql.length() && OPERATOR_CHARS.indexOf(sql.charAt(result)) >= 0 && !isCommentStart(sql, result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isFollowedByQuote(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && Character.isWhitespace(sql.charAt(result))) {
+            result++;
+        }
+        return result < sql.length() && ('\'' == sql.charAt(result) || '"' == sql.charAt(result));
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return Character.isLetter(ch) || '_' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    @AllArgsConstructor
+    private static final class Scope {
+        
+        private String clause;
+        
+        private final boolean list;
+    }
+}
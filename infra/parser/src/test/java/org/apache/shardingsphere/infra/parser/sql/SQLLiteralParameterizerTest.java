@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLiteralParameterizerTest {
+    
+    private final SQLLiteralParameterizer parameterizer = new SQLLiteralParameterizer("MySQL");
+    
+    @Test
+    void assertParameterizeSelectWithPredicatesAndPagination() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("SELECT 1 AS a, name FROM t_order WHERE order_id = 10 AND status IN ('OK', 'it''s') AND price BETWEEN 1.5 AND 2 LIMIT 5, 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1 AS a, name FROM t_order WHERE order_id = ? AND status IN (?, ?) AND price BETWEEN ? AND ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(10, "OK", "it's", new BigDecimal("1.5"), 2, 5, 10)));
+    }
+    
+    @Test
+    void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("insert into t_order (order_id, user_id, status) values (1, 2, 'a'), (3, 4, now())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("insert into t_order (order_id, user_id, status) values (?, ?, ?), (?, ?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1, 2, "a", 3, 4)));
+    }
+    
+    @Test
+    void assertParameterizeUpdateAssignments() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("UPDATE t_order SET status = 'PAID', version = version + 1 WHERE t_order.order_id = 3000000000");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = ?, version = version + 1 WHERE t_order.order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList("PAID", 3000000000L)));
+    }
+    
+    @Test
+    void assertParameterizeKeepsCommentsAndOpaqueLiterals() {
+        Optional<ParameterizedSQL> actual = parameterizer.parameterize("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ SELECT `id` FROM t_1 WHERE c = _utf8'x' AND d = 'a\\'b' AND e = 'x' 'y' AND f = 7 # tail");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ SELECT `id` FROM t_1 WHERE c = _utf8'x' AND d = 'a\\'b' AND e = 'x' 'y' AND f = ? # tail"));
+        assertThat(actual.get().getParameters(), is(Collections.singletonList(7)));
+    }
+    
+    @Test
+    void assertNotParameterize() {
+        assertFalse(parameterizer.parameterize("SELECT 1").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order ORDER BY 1").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(parameterizer.parameterize("SHOW TABLES LIKE 't_%'").isPresent());
+        assertFalse(parameterizer.parameterize("UPDATE t SET v = 1 WHERE id = 1; UPDATE t SET v = 1 WHERE id = 2").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT /*!40001 SQL_NO_CACHE */ * FROM t WHERE id = 1").isPresent());
+        assertFalse(parameterizer.parameterize("SELECT * FROM t WHERE id = 'unterminated").isPresent());
+    }
+}
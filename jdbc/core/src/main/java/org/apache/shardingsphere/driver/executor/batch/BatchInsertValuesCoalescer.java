@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Batch insert values coalescer, which coalesces rows of single-row insert batch into multi-row insert statements.
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesCoalescer {
+    
+    private static final String VALUES_KEYWORD = "VALUES";
+    
+    private static final String ROW_SEPARATOR = ", ";
+    
+    private static final int DEFAULT_PARAMETER_BYTES = 8;
+    
+    private final int maxRows;
+    
+    private final int maxBytes;
+    
+    private final int maxParameters;
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit to be coalesced
+     * @return coalesced batch execution units, empty if batch execution unit can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        int rowCount = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        if (rowCount < 2 || 1 != batchExecutionUnit.getRowsPerAddBatch() || sqlUnit.getParameters().isEmpty() || 0 != sqlUnit.getParameters().size() % rowCount) {
+            return Collections.emptyList();
+        }
+        int parameterCountPerRow = sqlUnit.getParameters().size() / rowCount;
+        Optional<int[]> valuesRange = findValuesRange(sqlUnit.getSql(), parameterCountPerRow);
+        if (!valuesRange.isPresent()) {
+            return Collections.emptyList();
+        }
+        String prefix = sqlUnit.getSql().substring(0, valuesRange.get()[0]);
+        String row = sqlUnit.getSql().substring(valuesRange.get()[0], valuesRange.get()[1]);
+        int rowsPerStatement = Math.min(rowCount, getMaxRowsPerStatement(prefix.length(), row.length(), sqlUnit.getParameters(), parameterCountPerRow));
+        if (rowsPerStatement < 2) {
+            return Collections.emptyList();
+        }
+        int coalescedRowCount = rowCount / rowsPerStatement * rowsPerStatement;
+        String dataSourceName = batchExecutionUnit.getExecutionUnit().getDataSourceName();
+        int coalescedParameterCount = coalescedRowCount * parameterCountPerRow;
+        BatchExecutionUnit coalescedUnit = createBatchExecutionUnit(dataSourceName, sqlUnit, prefix, row, rowsPerStatement, sqlUnit.getParameters().subList(0, coalescedParameterCount));
+        List<Object> remainedParams = sqlUnit.getParameters().subList(coalescedParameterCount, sqlUnit.getParameters().size());
+        BatchExecutionUnit remainedUnit = coalescedRowCount == rowCount ? null : createBatchExecutionUnit(dataSourceName, sqlUnit, prefix, row, rowCount - coalescedRowCount, remainedParams);
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            if (entry.getValue() < coalescedRowCount) {
+                coalescedUnit.mapCoalescedAddBatchCount(entry.getKey(), entry.getValue() / rowsPerStatement);
+            } else {
+                remainedUnit.mapCoalescedAddBatchCount(entry.getKey(), 0);
+            }
+        }
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        result.add(coalescedUnit);
+        if (null != remainedUnit) {
+            result.add(remainedUnit);
+        }
+        return result;
+    }
+    
+    private Optional<int[]> findValuesRange(final String sql, final int parameterCount) {
+        int valuesEndIndex = -1;
+        int rowStartIndex = -1;
+        int rowEndIndex = -1;
+        int depth = 0;
+        int placeholderCount = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                if ('\\' == each) {
+                    i++;
+                } else if (quote == each) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (rowEndIndex >= 0) {
+                if (!Character.isWhitespace(each)) {
+                    return Optional.empty();
+                }
+                continue;
+            }
+            if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('?' == each) {
+                if (rowStartIndex < 0) {
+                    return Optional.empty();
+                }
+                placeholderCount++;
+            } else if ('(' == each) {
+                if (0 == depth && valuesEndIndex >= 0) {
+                    if (!sql.substring(valuesEndIndex, i).trim().isEmpty()) {
+                        return Optional.empty();
+                    }
+                    rowStartIndex = i;
+                }
+                depth++;
+            } else if (')' == each) {
+                depth--;
+                if (0 == depth && rowStartIndex >= 0) {
+                    rowEndIndex = i + 1;
+                }
+            } else if (0 == depth && isValuesKeyword(sql, i)) {
+                if (valuesEndIndex >= 0) {
+                    return Optional.empty();
+                }
+                valuesEndIndex = i + VALUES_KEYWORD.length();
+                i = valuesEndIndex - 1;
+            }
+        }
+        return rowEndIndex >= 0 && parameterCount == placeholderCount ? Optional.of(new int[]{rowStartIndex, rowEndIndex}) : Optional.empty();
+    }
+    
+    private boolean isValuesKeyword(final String sql, final int index) {
+        if (!sql.regionMatches(true, index, VALUES_KEYWORD, 0, VALUES_KEYWORD.length())) {
+            return false;
+        }
+        int endIndex = index + VALUES_KEYWORD.length();
+        return (0 == index || !isIdentifierPart(sql.charAt(index - 1))) && (sql.length() == endIndex || !isIdentifierPart(sql.charAt(endIndex)));
+    }
+    
+    private boolean isIdentifierPart(final char character) {
+        return Character.isLetterOrDigit(character) || '_' == character || '$' == character;
+    }
+    
+    private int getMaxRowsPerStatement(final int prefixLength, final int rowLength, final List<Object> params, final int parameterCountPerRow) {
+        int maxRowBytes = 0;
+        for (int i = 0; i < params.size(); i += parameterCountPerRow) {
+            int rowBytes = rowLength + ROW_SEPARATOR.length();
+            for (Object each : params.subList(i, i + parameterCountPerRow)) {
+                rowBytes += getEstimatedBytes(each);
+            }
+            maxRowBytes = Math.max(maxRowBytes, rowBytes);
+        }
+        return Math.min(Math.min(maxRows, maxParameters / parameterCountPerRow), Math.max(0, maxBytes - prefixLength) / maxRowBytes);
+    }
+    
+    private int getEstimatedBytes(final Object param) {
+        if (param instanceof CharSequence) {
+            // upper bound of UTF-8 encoded bytes for each UTF-16 char
+            return ((CharSequence) param).length() * 3;
+        }
+        if (param instanceof byte[]) {
+            return ((byte[]) param).length;
+        }
+        return DEFAULT_PARAMETER_BYTES;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String dataSourceName, final SQLUnit originalSQLUnit,
+                                                        final String prefix, final String row, final int rowCount, final List<Object> params) {
+        StringBuilder sql = new StringBuilder(prefix.length() + (row.length() + ROW_SEPARATOR.length()) * rowCount).append(prefix).append(row);
+        for (int i = 1; i < rowCount; i++) {
+            sql.append(ROW_SEPARATOR).append(row);
+        }
+        return new BatchExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql.toString(), new ArrayList<>(params), originalSQLUnit.getTableRouteMappers())), rowCount);
+    }
+}
@@ -17,9 +17,14 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.BranchDatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -36,9 +41,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -50,14 +55,17 @@ import java.util.Optional;
  */
 public final class BatchPreparedStatementExecutor {
     
+    private static final int MYSQL_MAX_PARAMETERS = 65535;
+    
+    private static final int POSTGRESQL_MAX_PARAMETERS = 32767;
+    
     private final MetaDataContexts metaDataContexts;
     
     private final JDBCExecutor jdbcExecutor;
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -68,7 +76,7 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(databaseName));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -86,44 +94,74 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
-        return result;
+        batchCount++;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+    /**
+     * Coalesce single-row insert values of batch execution units into multi-row insert values.
+     *
+     * @param sqlStatementContext SQL statement context
+     */
+    public void coalesceInsertValues(final SQLStatementContext sqlStatementContext) {
+        int maxRows = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS);
+        if (maxRows <= 1 || !(sqlStatementContext instanceof InsertStatementContext) || !isNeedAccumulate(sqlStatementContext)) {
+            return;
+        }
+        int maxBytes = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_BYTES);
+        Map<String, DatabaseType> storageTypes = metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getStorageTypes();
+        Map<ExecutionUnit, BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedHashMap<>(batchExecutionUnits.size(), 1F);
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            int maxParameters = getMaxParameters(storageTypes.get(each.getExecutionUnit().getDataSourceName()));
+            Collection<BatchExecutionUnit> coalescedUnits = new BatchInsertValuesCoalescer(maxRows, maxBytes, maxParameters).coalesce(each);
+            if (coalescedUnits.isEmpty() || isConflicted(each, coalescedUnits, coalescedBatchExecutionUnits)) {
+                coalescedBatchExecutionUnits.put(each.getExecutionUnit(), each);
+            } else {
+                coalescedUnits.forEach(unit -> coalescedBatchExecutionUnits.put(unit.getExecutionUnit(), unit));
             }
         }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.putAll(coalescedBatchExecutionUnits);
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private int getMaxParameters(final DatabaseType storageType) {
+        DatabaseType databaseType = storageType instanceof BranchDatabaseType ? ((BranchDatabaseType) storageType).getTrunkDatabaseType() : storageType;
+        if (databaseType instanceof MySQLDatabaseType) {
+            return MYSQL_MAX_PARAMETERS;
+        }
+        if (databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType) {
+            return POSTGRESQL_MAX_PARAMETERS;
+        }
+        return Integer.MAX_VALUE;
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private boolean isConflicted(final BatchExecutionUnit originalUnit, final Collection<BatchExecutionUnit> coalescedUnits,
+                                 final Map<ExecutionUnit, BatchExecutionUnit> coalescedBatchExecutionUnits) {
+        for (BatchExecutionUnit each : coalescedUnits) {
+            if (coalescedBatchExecutionUnits.containsKey(each.getExecutionUnit())
+                    || !each.getExecutionUnit().equals(originalUnit.getExecutionUnit()) && batchExecutionUnits.containsKey(each.getExecutionUnit())) {
+                return true;
+            }
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        return false;
     }
     
     /**
@@ -178,24 +216,15 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
         }
-    }
-    
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult ? 0 : batchExecutionUnit.getJDBCUpdateCount(executeResult[entry.getValue()]);
+            int addBatchCount = addBatchCounts[entry.getKey()];
+            addBatchCounts[entry.getKey()] = value < 0 || addBatchCount < 0 ? Math.min(value, addBatchCount) : addBatchCount + value;
         }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
     }
     
     /**
@@ -240,12 +269,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == result) {
+            throw new IllegalStateException();
         }
-        throw new IllegalStateException();
+        return result.getParameterSets();
     }
     
     /**
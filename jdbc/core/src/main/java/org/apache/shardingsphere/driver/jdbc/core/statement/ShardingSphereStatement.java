@@ -648,6 +648,14 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
                 .anyMatch(each -> each.isNeedAccumulate(executionContext.getSqlStatementContext().getTablesContext().getTableNames()));
     }
     
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
+    
     @Override
     public Collection<Statement> getRoutedStatements() {
         return statements;
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +49,28 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertGetParameterSetsWithCoalescedAddBatch() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL + ", ?", Arrays.asList(1, 2, 3, 4))), 2);
+        batchExecutionUnit.mapCoalescedAddBatchCount(0, 0);
+        batchExecutionUnit.mapCoalescedAddBatchCount(1, 0);
+        batchExecutionUnit.mapCoalescedAddBatchCount(2, 1);
+        batchExecutionUnit.mapCoalescedAddBatchCount(3, 1);
+        List<List<Object>> actual = batchExecutionUnit.getParameterSets();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(Arrays.<Object>asList(1, 2)));
+        assertThat(actual.get(1), is(Arrays.<Object>asList(3, 4)));
+    }
+    
+    @Test
+    void assertGetJDBCUpdateCount() {
+        assertThat(new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1)))).getJDBCUpdateCount(3), is(3));
+        BatchExecutionUnit coalescedBatchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(1, 2))), 2);
+        assertThat(coalescedBatchExecutionUnit.getJDBCUpdateCount(2), is(1));
+        assertThat(coalescedBatchExecutionUnit.getJDBCUpdateCount(1), is(Statement.SUCCESS_NO_INFO));
+        assertThat(coalescedBatchExecutionUnit.getJDBCUpdateCount(Statement.EXECUTE_FAILED), is(Statement.EXECUTE_FAILED));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -59,7 +83,7 @@ class BatchExecutionUnitTest {
         ExecutionUnit executionUnit = new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1)));
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
-                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
+                + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), rowsPerAddBatch=1, "
                 + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchInsertValuesCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init?')";
+    
+    @Test
+    void assertCoalesceWithRemainedRows() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(2, 1024, Integer.MAX_VALUE).coalesce(createBatchExecutionUnit(SQL, 3, 1));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit actualCoalescedUnit = iterator.next();
+        assertThat(actualCoalescedUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init?'), (?, 'init?')"));
+        assertThat(actualCoalescedUnit.getRowsPerAddBatch(), is(2));
+        assertThat(actualCoalescedUnit.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(0, 1))));
+        assertThat(actualCoalescedUnit.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(actualCoalescedUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        BatchExecutionUnit actualRemainedUnit = iterator.next();
+        assertThat(actualRemainedUnit.getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(actualRemainedUnit.getRowsPerAddBatch(), is(1));
+        assertThat(actualRemainedUnit.getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(2))));
+        assertThat(actualRemainedUnit.getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxBytes() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(100, 100, Integer.MAX_VALUE).coalesce(createBatchExecutionUnit(SQL, 4, 1));
+        assertThat(actual.size(), is(1));
+        BatchExecutionUnit actualCoalescedUnit = actual.iterator().next();
+        assertThat(actualCoalescedUnit.getRowsPerAddBatch(), is(2));
+        assertThat(actualCoalescedUnit.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 1), Arrays.<Object>asList(2, 3))));
+        assertThat(actualCoalescedUnit.getJdbcAndActualAddBatchCallTimesMap().get(3), is(1));
+    }
+    
+    @Test
+    void assertCoalesceWithMaxParameters() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesCoalescer(100, 1024, 5).coalesce(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)", 4, 2));
+        assertThat(actual.size(), is(1));
+        BatchExecutionUnit actualCoalescedUnit = actual.iterator().next();
+        assertThat(actualCoalescedUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actualCoalescedUnit.getRowsPerAddBatch(), is(2));
+        assertThat(actualCoalescedUnit.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 1, 2, 3), Arrays.<Object>asList(4, 5, 6, 7))));
+    }
+    
+    @Test
+    void assertNotCoalesceWithMaxParameters() {
+        assertTrue(new BatchInsertValuesCoalescer(100, 1024, 3).coalesce(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)", 4, 2)).isEmpty());
+    }
+    
+    @Test
+    void assertNotCoalesceWithSingleRow() {
+        assertTrue(new BatchInsertValuesCoalescer(100, 1024, Integer.MAX_VALUE).coalesce(createBatchExecutionUnit(SQL, 1, 1)).isEmpty());
+    }
+    
+    @Test
+    void assertNotCoalesceWithMultipleValues() {
+        assertTrue(new BatchInsertValuesCoalescer(100, 1024, Integer.MAX_VALUE).coalesce(createBatchExecutionUnit("INSERT INTO t_order_0 (order_id) VALUES (?), (?)", 2, 2)).isEmpty());
+    }
+    
+    @Test
+    void assertNotCoalesceWithTrailingClause() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id) VALUES (?) ON DUPLICATE KEY UPDATE status = ?", 2, 2);
+        assertTrue(new BatchInsertValuesCoalescer(100, 1024, Integer.MAX_VALUE).coalesce(batchExecutionUnit).isEmpty());
+    }
+    
+    @Test
+    void assertNotCoalesceWithoutValues() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id) SELECT order_id FROM t_order_1 WHERE order_id = ?", 2, 1);
+        assertTrue(new BatchInsertValuesCoalescer(100, 1024, Integer.MAX_VALUE).coalesce(batchExecutionUnit).isEmpty());
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rowCount, final int parameterCountPerRow) {
+        List<Object> params = new ArrayList<>(rowCount * parameterCountPerRow);
+        for (int i = 0; i < rowCount * parameterCountPerRow; i++) {
+            params.add(i);
+        }
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, params)));
+        for (int i = 0; i < rowCount; i++) {
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
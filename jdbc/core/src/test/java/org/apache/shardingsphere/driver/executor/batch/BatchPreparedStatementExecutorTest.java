@@ -22,6 +22,9 @@ import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -56,9 +59,11 @@ import org.mockito.quality.Strictness;
 import javax.sql.DataSource;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -80,10 +85,14 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithCPU();
     
     private BatchPreparedStatementExecutor executor;
     
+    private MetaDataContexts metaDataContexts;
+    
     @Mock
     private SQLStatementContext sqlStatementContext;
     
@@ -98,7 +107,7 @@ class BatchPreparedStatementExecutorTest {
     
     private ContextManager mockContextManager() {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
-        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        metaDataContexts = mockMetaDataContexts();
         when(result.getMetaDataContexts()).thenReturn(metaDataContexts);
         when(result.getDataSourceMap("foo_db")).thenReturn(mockDataSourceMap());
         return result;
@@ -187,6 +196,63 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", SQL, 1), createExecutionUnit("ds_1", SQL, 1)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", SQL, 2)));
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit actualFirstUnit = actual.next();
+        assertThat(actualFirstUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actualFirstUnit.getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+        assertThat(actualFirstUnit.getJdbcAndActualAddBatchCallTimesMap().size(), is(2));
+        BatchExecutionUnit actualSecondUnit = actual.next();
+        assertThat(actualSecondUnit.getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actualSecondUnit.getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(1))));
+    }
+    
+    @Test
+    void assertCoalesceInsertValues() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS.getKey(), "2");
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, i, i * 10)));
+        }
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        executor.coalesceInsertValues(insertStatementContext);
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit actualCoalescedUnit = actual.next();
+        assertThat(actualCoalescedUnit.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actualCoalescedUnit.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(0, 0, 1, 10))));
+        BatchExecutionUnit actualRemainedUnit = actual.next();
+        assertThat(actualRemainedUnit.getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+        assertThat(actualRemainedUnit.getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(2, 20))));
+        PreparedStatement coalescedPreparedStatement = getPreparedStatement();
+        when(coalescedPreparedStatement.executeBatch()).thenReturn(new int[]{2});
+        PreparedStatement remainedPreparedStatement = getPreparedStatement();
+        when(remainedPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(new JDBCExecutionUnit(actualCoalescedUnit.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, coalescedPreparedStatement),
+                new JDBCExecutionUnit(actualRemainedUnit.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, remainedPreparedStatement));
+        executor.init(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(executionUnits)), new ExecutionGroupReportContext("logic_db")));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
+    @Test
+    void assertNotCoalesceInsertValuesWithoutMaxRows() {
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 0, 0)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", INSERT_SQL, 1, 10)));
+        executor.coalesceInsertValues(mock(InsertStatementContext.class, RETURNS_DEEP_STUBS));
+        assertThat(executor.getBatchExecutionUnits().size(), is(1));
+        assertThat(executor.getBatchExecutionUnits().iterator().next().getExecutionUnit().getSqlUnit().getSql(), is(INSERT_SQL));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final String sql, final Object... params) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(sql, new ArrayList<>(Arrays.asList(params))));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -197,19 +263,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext("logic_db")));
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
@@ -55,6 +55,8 @@ public final class ImporterConfiguration {
     
     private final int concurrency;
     
+    private final int writeLanes;
+    
     /**
      * Get logic table names.
      *
@@ -26,11 +26,15 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFact
 
 import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 /**
@@ -43,6 +47,8 @@ public final class ExecuteEngine {
     
     private static final String THREAD_SUFFIX = "-%d";
     
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+    
     private final ExecutorService executorService;
     
     /**
@@ -57,7 +63,7 @@ public final class ExecuteEngine {
     }
     
     /**
-     * Create task execute engine instance with fixed thread pool.
+     * Create task execute engine instance with fixed thread pool, idle threads are released after keep alive time.
      *
      * @param threadNumber thread number
      * @param threadName thread name
@@ -65,7 +71,10 @@ public final class ExecuteEngine {
      */
     public static ExecuteEngine newFixedThreadInstance(final int threadNumber, final String threadName) {
         String threadNameFormat = THREAD_PREFIX + threadName + THREAD_SUFFIX;
-        return new ExecuteEngine(Executors.newFixedThreadPool(threadNumber, ExecutorThreadFactoryBuilder.build(threadNameFormat)));
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(threadNumber, threadNumber, IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build(threadNameFormat));
+        executorService.allowCoreThreadTimeOut(true);
+        return new ExecuteEngine(executorService);
     }
     
     /**
@@ -96,6 +105,17 @@ public final class ExecuteEngine {
         return CompletableFuture.runAsync(lifecycleExecutor, executorService);
     }
     
+    /**
+     * Submit a task to execute.
+     *
+     * @param task task
+     * @param <T> type of task result
+     * @return execute future
+     */
+    public <T> Future<T> submit(final Callable<T> task) {
+        return executorService.submit(task);
+    }
+    
     /**
      * Shutdown.
      */
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.DataRecordMerger;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtils;
@@ -45,11 +46,15 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -70,17 +75,23 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
-    private final AtomicReference<Statement> batchInsertStatement = new AtomicReference<>();
+    private final Set<Statement> runningStatements = ConcurrentHashMap.newKeySet();
     
-    private final AtomicReference<Statement> updateStatement = new AtomicReference<>();
+    private final int writeLanes;
     
-    private final AtomicReference<Statement> batchDeleteStatement = new AtomicReference<>();
+    private final ExecuteEngine laneExecuteEngine;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        this(importerConfig, dataSourceManager, null);
+    }
+    
+    public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final ExecuteEngine laneExecuteEngine) {
         this.importerConfig = importerConfig;
         rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         this.dataSourceManager = dataSourceManager;
         pipelineSqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, importerConfig.getDataSourceConfig().getDatabaseType().getType());
+        writeLanes = null == laneExecuteEngine ? 1 : Math.max(1, importerConfig.getWriteLanes());
+        this.laneExecuteEngine = laneExecuteEngine;
     }
     
     @Override
@@ -90,28 +101,105 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public PipelineJobProgressUpdatedParameter write(final String ackId, final List<Record> records) {
-        return flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
+        DataSource dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
+        List<DataRecord> dataRecords = records.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
+        if (dataRecords.stream().anyMatch(this::isUniqueKeyUpdated)) {
+            return new PipelineJobProgressUpdatedParameter(flushInOrder(dataSource, dataRecords));
+        }
+        if (1 == writeLanes || dataRecords.size() < 2) {
+            return new PipelineJobProgressUpdatedParameter(flush(dataSource, dataRecords));
+        }
+        return new PipelineJobProgressUpdatedParameter(parallelFlush(dataSource, splitLanes(dataRecords)));
+    }
+    
+    private boolean isUniqueKeyUpdated(final DataRecord dataRecord) {
+        if (!IngestDataChangeType.UPDATE.equals(dataRecord.getType()) || dataRecord.getOldUniqueKeyValues().stream().allMatch(each -> null == each)) {
+            return false;
+        }
+        return !Arrays.deepEquals(dataRecord.getOldUniqueKeyValues().toArray(), dataRecord.getUniqueKeyValue().toArray());
+    }
+    
+    private List<List<DataRecord>> splitLanes(final List<DataRecord> dataRecords) {
+        List<List<DataRecord>> result = new ArrayList<>(writeLanes);
+        for (int i = 0; i < writeLanes; i++) {
+            result.add(new ArrayList<>(dataRecords.size() / writeLanes + 1));
+        }
+        for (DataRecord each : dataRecords) {
+            result.get(Math.floorMod(getLaneHashCode(each), writeLanes)).add(each);
+        }
+        return result;
+    }
+    
+    private int getLaneHashCode(final DataRecord dataRecord) {
+        List<Object> uniqueKeyValues = IngestDataChangeType.DELETE.equals(dataRecord.getType()) ? dataRecord.getOldUniqueKeyValues() : dataRecord.getUniqueKeyValue();
+        return 31 * dataRecord.getTableName().hashCode() + Arrays.deepHashCode(uniqueKeyValues.toArray());
     }
     
-    private PipelineJobProgressUpdatedParameter flush(final DataSource dataSource, final List<Record> buffer) {
-        List<DataRecord> dataRecords = buffer.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
+    private int flushInOrder(final DataSource dataSource, final List<DataRecord> dataRecords) {
+        sequentialFlush(dataSource, dataRecords);
+        return (int) dataRecords.stream().filter(each -> IngestDataChangeType.INSERT.equals(each.getType())).count();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private int parallelFlush(final DataSource dataSource, final List<List<DataRecord>> lanes) {
+        List<Future<Integer>> futures = new ArrayList<>(lanes.size());
+        futures.add(null);
+        for (List<DataRecord> each : lanes.subList(1, lanes.size())) {
+            futures.add(submitLane(dataSource, each));
+        }
+        int result = 0;
+        RuntimeException failure = null;
+        for (int i = 0; i < lanes.size(); i++) {
+            Future<Integer> future = futures.get(i);
+            try {
+                // Lanes not started yet run on importer thread, so importers sharing the lane execute engine can not starve each other
+                result += null == future || future.cancel(false) ? flush(dataSource, lanes.get(i)) : future.get();
+            } catch (final ExecutionException ex) {
+                if (null == failure) {
+                    failure = ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new PipelineImporterJobWriteException(ex);
+                }
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                if (null == failure) {
+                    failure = ex;
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+        return result;
+    }
+    
+    private Future<Integer> submitLane(final DataSource dataSource, final List<DataRecord> lane) {
+        if (lane.isEmpty()) {
+            return null;
+        }
+        try {
+            return laneExecuteEngine.submit(() -> flush(dataSource, lane));
+        } catch (final RejectedExecutionException ignored) {
+            return null;
+        }
+    }
+    
+    private int flush(final DataSource dataSource, final List<DataRecord> dataRecords) {
         if (dataRecords.isEmpty()) {
-            return new PipelineJobProgressUpdatedParameter(0);
+            return 0;
         }
-        int insertRecordNumber = 0;
+        int result = 0;
         for (DataRecord each : dataRecords) {
             if (IngestDataChangeType.INSERT.equals(each.getType())) {
-                insertRecordNumber++;
+                result++;
             }
         }
-        List<GroupedDataRecord> result = MERGER.group(dataRecords);
-        for (GroupedDataRecord each : result) {
+        for (GroupedDataRecord each : MERGER.group(dataRecords)) {
             flushInternal(dataSource, each.getBatchDeleteDataRecords());
             flushInternal(dataSource, each.getBatchInsertDataRecords());
             flushInternal(dataSource, each.getBatchUpdateDataRecords());
             sequentialFlush(dataSource, each.getNonBatchRecords());
         }
-        return new PipelineJobProgressUpdatedParameter(insertRecordNumber);
+        return result;
     }
     
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
@@ -205,17 +293,19 @@ public final class PipelineDataSourceSink implements PipelineSink {
         DataRecord dataRecord = dataRecords.get(0);
         String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
-            batchInsertStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+            runningStatements.add(preparedStatement);
+            try {
+                preparedStatement.setQueryTimeout(30);
+                for (DataRecord each : dataRecords) {
+                    for (int i = 0; i < each.getColumnCount(); i++) {
+                        preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                    }
+                    preparedStatement.addBatch();
                 }
-                preparedStatement.addBatch();
+                preparedStatement.executeBatch();
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-            preparedStatement.executeBatch();
-        } finally {
-            batchInsertStatement.set(null);
         }
     }
     
@@ -235,26 +325,28 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(dataRecord);
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
-            updateStatement.set(preparedStatement);
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && keyColumn.getOldValue() == null) {
-                    preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
+            runningStatements.add(preparedStatement);
+            try {
+                for (int i = 0; i < updatedColumns.size(); i++) {
+                    preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
                 }
-                preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getOldValue());
-            }
-            // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+                    if (shardingColumns.contains(keyColumn.getName()) && keyColumn.getOldValue() == null) {
+                        preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getValue());
+                        continue;
+                    }
+                    preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getOldValue());
+                }
+                // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
+                int updateCount = preparedStatement.executeUpdate();
+                if (1 != updateCount) {
+                    log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
+                }
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-        } finally {
-            updateStatement.set(null);
         }
     }
     
@@ -263,25 +355,27 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            batchDeleteStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    Object oldValue = conditionColumns.get(i).getOldValue();
-                    if (null == oldValue) {
-                        log.warn("Record old value is null, record={}", each);
+            runningStatements.add(preparedStatement);
+            try {
+                preparedStatement.setQueryTimeout(30);
+                for (DataRecord each : dataRecords) {
+                    List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
+                    for (int i = 0; i < conditionColumns.size(); i++) {
+                        Object oldValue = conditionColumns.get(i).getOldValue();
+                        if (null == oldValue) {
+                            log.warn("Record old value is null, record={}", each);
+                        }
+                        preparedStatement.setObject(i + 1, oldValue);
                     }
-                    preparedStatement.setObject(i + 1, oldValue);
+                    preparedStatement.addBatch();
                 }
-                preparedStatement.addBatch();
-            }
-            int[] counts = preparedStatement.executeBatch();
-            if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
-                log.warn("batchDelete failed, counts={}, sql={}, dataRecords={}", Arrays.toString(counts), deleteSQL, dataRecords);
+                int[] counts = preparedStatement.executeBatch();
+                if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
+                    log.warn("batchDelete failed, counts={}, sql={}, dataRecords={}", Arrays.toString(counts), deleteSQL, dataRecords);
+                }
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-        } finally {
-            batchDeleteStatement.set(null);
         }
     }
     
@@ -298,8 +392,6 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public void close() {
-        PipelineJdbcUtils.cancelStatement(batchInsertStatement.get());
-        PipelineJdbcUtils.cancelStatement(updateStatement.get());
-        PipelineJdbcUtils.cancelStatement(batchDeleteStatement.get());
+        runningStatements.forEach(PipelineJdbcUtils::cancelStatement);
     }
 }
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -45,8 +46,12 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, () -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Supplier<PipelineChannel> channelSupplier) {
         this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        channels = IntStream.range(0, channelNumber).mapToObj(each -> channelSupplier.get()).collect(Collectors.toList());
     }
     
     @Override
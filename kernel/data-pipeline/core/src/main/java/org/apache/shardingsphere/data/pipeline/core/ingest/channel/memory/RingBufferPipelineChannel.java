@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * 
+ * <p>Records are kept in a bounded lock free ring buffer with per slot sequences, producers and consumers park when the buffer is full or empty
+ * and are woken up by the other side, instead of polling with sleep.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private final AtomicReferenceArray<List<Record>> buffer;
+    
+    private final AtomicLongArray sequences;
+    
+    private final int mask;
+    
+    private final AtomicLong producerIndex = new AtomicLong();
+    
+    private final AtomicLong consumerIndex = new AtomicLong();
+    
+    private final Queue<Thread> waitingConsumers = new ConcurrentLinkedQueue<>();
+    
+    private final Queue<Thread> waitingProducers = new ConcurrentLinkedQueue<>();
+    
+    private final AckCallback ackCallback;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        buffer = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void pushRecords(final List<Record> records) {
+        if (!offer(records)) {
+            waitUntilOffered(records);
+        }
+        signal(waitingConsumers);
+    }
+    
+    private void waitUntilOffered(final List<Record> records) throws InterruptedException {
+        Thread currentThread = Thread.currentThread();
+        while (true) {
+            waitingProducers.add(currentThread);
+            boolean offered = offer(records);
+            if (!offered) {
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            }
+            waitingProducers.remove(currentThread);
+            if (offered || offer(records)) {
+                return;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        Thread currentThread = Thread.currentThread();
+        while (result.size() < batchSize) {
+            if (drainTo(result, batchSize)) {
+                continue;
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L || currentThread.isInterrupted()) {
+                break;
+            }
+            waitingConsumers.add(currentThread);
+            if (!isEmpty()) {
+                waitingConsumers.remove(currentThread);
+                continue;
+            }
+            LockSupport.parkNanos(this, Math.min(remainingNanos, MAX_PARK_NANOS));
+            waitingConsumers.remove(currentThread);
+        }
+        return result;
+    }
+    
+    private boolean drainTo(final List<Record> result, final int batchSize) {
+        boolean drained = false;
+        while (result.size() < batchSize) {
+            List<Record> records = poll();
+            if (null == records) {
+                break;
+            }
+            result.addAll(records);
+            drained = true;
+        }
+        if (drained) {
+            signal(waitingProducers);
+        }
+        return drained;
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        long index = consumerIndex.get();
+        int slot = (int) index & mask;
+        List<Record> result = sequences.get(slot) == index + 1 ? buffer.get(slot) : null;
+        return null != result ? result : Collections.emptyList();
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        List<Record> result = poll();
+        if (null == result) {
+            return Collections.emptyList();
+        }
+        signal(waitingProducers);
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    private boolean offer(final List<Record> records) {
+        long index = producerIndex.get();
+        while (true) {
+            int slot = (int) index & mask;
+            long difference = sequences.get(slot) - index;
+            if (0L == difference) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    buffer.set(slot, records);
+                    sequences.set(slot, index + 1);
+                    return true;
+                }
+                index = producerIndex.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                index = producerIndex.get();
+            }
+        }
+    }
+    
+    private List<Record> poll() {
+        long index = consumerIndex.get();
+        while (true) {
+            int slot = (int) index & mask;
+            long difference = sequences.get(slot) - (index + 1);
+            if (0L == difference) {
+                if (consumerIndex.compareAndSet(index, index + 1)) {
+                    List<Record> result = buffer.get(slot);
+                    buffer.set(slot, null);
+                    sequences.set(slot, index + mask + 1);
+                    return result;
+                }
+                index = consumerIndex.get();
+            } else if (difference < 0L) {
+                return null;
+            } else {
+                index = consumerIndex.get();
+            }
+        }
+    }
+    
+    private boolean isEmpty() {
+        long index = consumerIndex.get();
+        return sequences.get((int) index & mask) != index + 1;
+    }
+    
+    private void signal(final Queue<Thread> waitingThreads) {
+        if (waitingThreads.isEmpty()) {
+            return;
+        }
+        for (Thread each : waitingThreads) {
+            LockSupport.unpark(each);
+        }
+    }
+    
+    @Override
+    public void close() {
+        while (null != poll()) {
+            signal(waitingProducers);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsTimeoutCorrectly() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        long startMills = System.currentTimeMillis();
+        channel.fetchRecords(1, 1, TimeUnit.MILLISECONDS);
+        long endMills = System.currentTimeMillis();
+        assertTrue(endMills - startMills >= 1 && endMills - startMills < 50);
+        startMills = System.currentTimeMillis();
+        channel.fetchRecords(1, 500, TimeUnit.MILLISECONDS);
+        endMills = System.currentTimeMillis();
+        assertTrue(endMills - startMills >= 500 && endMills - startMills < 600);
+    }
+    
+    @Test
+    void assertFetchRecordsReturnWhenBatchSizeReached() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        channel.pushRecords(Arrays.asList(createRecord(), createRecord()));
+        channel.pushRecords(Collections.singletonList(createRecord()));
+        long startMills = System.currentTimeMillis();
+        List<Record> actual = channel.fetchRecords(3, 500, TimeUnit.MILLISECONDS);
+        assertTrue(System.currentTimeMillis() - startMills < 100);
+        assertThat(actual.size(), is(3));
+    }
+    
+    @Test
+    void assertFetchRecordsWokenUpByPush() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        CompletableFuture.runAsync(() -> {
+            sleep(50L);
+            channel.pushRecords(Collections.singletonList(createRecord()));
+        });
+        long startMills = System.currentTimeMillis();
+        List<Record> actual = channel.fetchRecords(1, 2000, TimeUnit.MILLISECONDS);
+        assertTrue(System.currentTimeMillis() - startMills < 1000);
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    void assertPushRecordsWithBackpressure() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new EmptyAckCallback());
+        channel.pushRecords(Collections.singletonList(createRecord()));
+        channel.pushRecords(Collections.singletonList(createRecord()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecords(Collections.singletonList(createRecord())));
+        sleep(50L);
+        assertFalse(future.isDone());
+        assertThat(channel.pollRecords().size(), is(1));
+        future.join();
+        assertThat(channel.fetchRecords(10, 1, TimeUnit.MILLISECONDS).size(), is(2));
+    }
+    
+    @Test
+    void assertPeekAndPollRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        assertTrue(channel.peekRecords().isEmpty());
+        assertTrue(channel.pollRecords().isEmpty());
+        List<Record> records = Collections.singletonList(createRecord());
+        channel.pushRecords(records);
+        assertThat(channel.peekRecords(), is(records));
+        assertThat(channel.pollRecords(), is(records));
+        assertTrue(channel.peekRecords().isEmpty());
+    }
+    
+    @Test
+    void assertClose() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        channel.pushRecords(Collections.singletonList(createRecord()));
+        channel.close();
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    private Record createRecord() {
+        return new PlaceholderRecord(new PlaceholderPosition());
+    }
+    
+    private void sleep(final long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -330,7 +330,8 @@ public final class MigrationJobAPI extends AbstractInventoryIncrementalJobAPIImp
         int batchSize = pipelineProcessConfig.getWrite().getBatchSize();
         int retryTimes = jobConfig.getRetryTimes();
         int concurrency = jobConfig.getConcurrency();
-        return new ImporterConfiguration(jobConfig.getTarget(), shardingColumnsMap, tableNameSchemaNameMapping, batchSize, writeRateLimitAlgorithm, retryTimes, concurrency);
+        int writeLanes = Math.max(1, processContext.getPipelineProcessConfig().getWrite().getWorkerThread() / Math.max(1, concurrency));
+        return new ImporterConfiguration(jobConfig.getTarget(), shardingColumnsMap, tableNameSchemaNameMapping, batchSize, writeRateLimitAlgorithm, retryTimes, concurrency, writeLanes);
     }
     
     @Override
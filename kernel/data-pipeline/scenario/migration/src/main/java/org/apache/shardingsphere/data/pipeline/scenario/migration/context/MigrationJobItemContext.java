@@ -126,7 +126,7 @@ public final class MigrationJobItemContext implements InventoryIncrementalJobIte
     
     @Override
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager, jobProcessContext.getInventoryImporterExecuteEngine());
     }
     
     /**
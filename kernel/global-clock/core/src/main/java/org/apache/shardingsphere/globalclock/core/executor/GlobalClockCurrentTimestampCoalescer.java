@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+
+/**
+ * Global clock current timestamp coalescer.
+ * 
+ * <p>Concurrent callers share one provider round trip. A caller only reuses the result of a round trip started after its arrival,
+ * so the timestamp returned is never older than the one it would have loaded by itself.</p>
+ */
+@RequiredArgsConstructor
+final class GlobalClockCurrentTimestampCoalescer {
+    
+    private final GlobalClockProvider globalClockProvider;
+    
+    private long startedRound;
+    
+    private long completedRound;
+    
+    private boolean loading;
+    
+    private long currentTimestamp;
+    
+    /**
+     * Get current timestamp.
+     *
+     * @return current timestamp
+     */
+    @SneakyThrows(InterruptedException.class)
+    long getCurrentTimestamp() {
+        long expectedRound;
+        synchronized (this) {
+            expectedRound = startedRound + 1L;
+        }
+        while (true) {
+            long round;
+            synchronized (this) {
+                while (loading && completedRound < expectedRound) {
+                    wait();
+                }
+                if (completedRound >= expectedRound) {
+                    return currentTimestamp;
+                }
+                loading = true;
+                round = ++startedRound;
+            }
+            long timestamp;
+            try {
+                timestamp = globalClockProvider.getCurrentTimestamp();
+            } catch (final RuntimeException ex) {
+                finishLoading();
+                throw ex;
+            }
+            finishLoading(round, timestamp);
+        }
+    }
+    
+    private synchronized void finishLoading(final long round, final long timestamp) {
+        completedRound = round;
+        currentTimestamp = timestamp;
+        finishLoading();
+    }
+    
+    private synchronized void finishLoading() {
+        loading = false;
+        notifyAll();
+    }
+}
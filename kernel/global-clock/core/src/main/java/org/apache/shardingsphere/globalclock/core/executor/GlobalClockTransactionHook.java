@@ -39,6 +39,8 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
     
     private GlobalClockProvider globalClockProvider;
     
+    private GlobalClockCurrentTimestampCoalescer currentTimestampCoalescer;
+    
     private GlobalClockTransactionExecutor globalClockTransactionExecutor;
     
     private final LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.GLOBAL_LOCK.getLockName());
@@ -50,6 +52,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         enabled = Boolean.parseBoolean(props.getProperty("enabled"));
         if (enabled) {
             globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")));
+            currentTimestampCoalescer = new GlobalClockCurrentTimestampCoalescer(globalClockProvider);
             globalClockTransactionExecutor = TypedSPILoader.getService(GlobalClockTransactionExecutor.class, props.getProperty("trunkType"));
         }
     }
@@ -59,7 +62,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
         if (!enabled) {
             return;
         }
-        transactionContext.setBeginMills(globalClockProvider.getCurrentTimestamp());
+        transactionContext.setBeginMills(currentTimestampCoalescer.getCurrentTimestamp());
     }
     
     @Override
@@ -76,7 +79,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
             return;
         }
         if (null == isolationLevel || TransactionIsolationLevel.READ_COMMITTED == isolationLevel) {
-            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, globalClockProvider.getCurrentTimestamp());
+            globalClockTransactionExecutor.sendSnapshotTimestamp(connections, currentTimestampCoalescer.getCurrentTimestamp());
         }
     }
     
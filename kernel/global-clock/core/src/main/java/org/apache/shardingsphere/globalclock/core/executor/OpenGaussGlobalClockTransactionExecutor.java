@@ -17,33 +17,81 @@
 
 package org.apache.shardingsphere.globalclock.core.executor;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * OpenGauss global clock transaction executor.
  */
 public final class OpenGaussGlobalClockTransactionExecutor implements GlobalClockTransactionExecutor {
     
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-GlobalClock-%d").build());
+    
     @Override
     public void sendSnapshotTimestamp(final Collection<Connection> connections, final long globalTimestamp) throws SQLException {
-        String setSnapshotTimestampSQL = String.format("SELECT %d AS SETSNAPSHOTCSN", globalTimestamp);
-        for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                statement.execute(setSnapshotTimestampSQL);
-            }
-        }
+        send(connections, String.format("SELECT %d AS SETSNAPSHOTCSN", globalTimestamp));
     }
     
     @Override
     public void sendCommitTimestamp(final Collection<Connection> connections, final long globalTimestamp) throws SQLException {
-        String setCommitTimestampSQL = String.format("SELECT %d AS SETCOMMITCSN", globalTimestamp);
-        for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                statement.execute(setCommitTimestampSQL);
+        send(connections, String.format("SELECT %d AS SETCOMMITCSN", globalTimestamp));
+    }
+    
+    private void send(final Collection<Connection> connections, final String sql) throws SQLException {
+        if (connections.size() <= 1) {
+            for (Connection each : connections) {
+                execute(each, sql);
             }
+            return;
+        }
+        Iterator<Connection> iterator = connections.iterator();
+        Connection firstConnection = iterator.next();
+        Collection<Future<Void>> futures = new LinkedList<>();
+        while (iterator.hasNext()) {
+            Connection each = iterator.next();
+            futures.add(EXECUTOR_SERVICE.submit(() -> {
+                execute(each, sql);
+                return null;
+            }));
+        }
+        SQLException result = null;
+        try {
+            execute(firstConnection, sql);
+        } catch (final SQLException ex) {
+            result = ex;
+        }
+        for (Future<Void> each : futures) {
+            try {
+                Uninterruptibles.getUninterruptibly(each);
+            } catch (final ExecutionException ex) {
+                if (null == result) {
+                    result = ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new UnknownSQLException(ex).toSQLException();
+                }
+            }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new SQLException("Sending global clock timestamp is interrupted.", result);
+        }
+        if (null != result) {
+            throw result;
+        }
+    }
+    
+    private void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
         }
     }
     
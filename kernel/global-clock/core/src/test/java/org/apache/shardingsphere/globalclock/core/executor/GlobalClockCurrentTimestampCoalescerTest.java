@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.executor;
+
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GlobalClockCurrentTimestampCoalescerTest {
+    
+    @Test
+    void assertGetCurrentTimestampSequentially() {
+        GlobalClockProvider globalClockProvider = mock(GlobalClockProvider.class);
+        when(globalClockProvider.getCurrentTimestamp()).thenReturn(1L, 2L);
+        GlobalClockCurrentTimestampCoalescer coalescer = new GlobalClockCurrentTimestampCoalescer(globalClockProvider);
+        assertThat(coalescer.getCurrentTimestamp(), is(1L));
+        assertThat(coalescer.getCurrentTimestamp(), is(2L));
+    }
+    
+    @Test
+    void assertGetCurrentTimestampAfterFailure() {
+        GlobalClockProvider globalClockProvider = mock(GlobalClockProvider.class);
+        when(globalClockProvider.getCurrentTimestamp()).thenThrow(new IllegalStateException("failed")).thenReturn(3L);
+        GlobalClockCurrentTimestampCoalescer coalescer = new GlobalClockCurrentTimestampCoalescer(globalClockProvider);
+        assertThrows(IllegalStateException.class, coalescer::getCurrentTimestamp);
+        assertThat(coalescer.getCurrentTimestamp(), is(3L));
+    }
+    
+    @Test
+    void assertGetCurrentTimestampConcurrently() throws InterruptedException, ExecutionException {
+        CountDownLatch firstLoadStarted = new CountDownLatch(1);
+        CountDownLatch firstLoadReleased = new CountDownLatch(1);
+        AtomicLong loadCount = new AtomicLong();
+        GlobalClockProvider globalClockProvider = mock(GlobalClockProvider.class);
+        when(globalClockProvider.getCurrentTimestamp()).thenAnswer(invocation -> {
+            long result = loadCount.incrementAndGet();
+            if (1L == result) {
+                firstLoadStarted.countDown();
+                firstLoadReleased.await();
+            }
+            return result;
+        });
+        GlobalClockCurrentTimestampCoalescer coalescer = new GlobalClockCurrentTimestampCoalescer(globalClockProvider);
+        ExecutorService executorService = Executors.newFixedThreadPool(9);
+        try {
+            Future<Long> first = executorService.submit(coalescer::getCurrentTimestamp);
+            firstLoadStarted.await();
+            Collection<Future<Long>> followers = new LinkedList<>();
+            for (int i = 0; i < 8; i++) {
+                followers.add(executorService.submit(coalescer::getCurrentTimestamp));
+            }
+            Thread.sleep(100L);
+            firstLoadReleased.countDown();
+            assertThat(first.get(), is(1L));
+            for (Future<Long> each : followers) {
+                assertThat(each.get(), greaterThanOrEqualTo(2L));
+            }
+            assertThat(loadCount.get(), lessThan(9L));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.core.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OpenGaussGlobalClockTransactionExecutorTest {
+    
+    @Test
+    void assertSendSnapshotTimestamp() throws SQLException {
+        Connection firstConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        Connection secondConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        new OpenGaussGlobalClockTransactionExecutor().sendSnapshotTimestamp(Arrays.asList(firstConnection, secondConnection), 10L);
+        verify(firstConnection.createStatement()).execute("SELECT 10 AS SETSNAPSHOTCSN");
+        verify(secondConnection.createStatement()).execute("SELECT 10 AS SETSNAPSHOTCSN");
+    }
+    
+    @Test
+    void assertSendCommitTimestampWhenInterrupted() throws SQLException {
+        Connection firstConnection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        Connection secondConnection = mock(Connection.class);
+        Statement secondStatement = mock(Statement.class);
+        when(secondConnection.createStatement()).thenReturn(secondStatement);
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(SQLException.class, () -> new OpenGaussGlobalClockTransactionExecutor().sendCommitTimestamp(Arrays.asList(firstConnection, secondConnection), 10L));
+            assertThat(Thread.currentThread().isInterrupted(), is(true));
+        } finally {
+            Thread.interrupted();
+        }
+        verify(firstConnection.createStatement()).execute("SELECT 10 AS SETCOMMITCSN");
+        verify(secondStatement).execute("SELECT 10 AS SETCOMMITCSN");
+    }
+}
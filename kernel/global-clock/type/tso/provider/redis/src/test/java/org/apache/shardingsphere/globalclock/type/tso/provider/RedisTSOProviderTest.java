@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTSOProviderTest {
+    
+    @Mock
+    private JedisPool jedisPool;
+    
+    @Mock
+    private Jedis jedis;
+    
+    private final RedisTSOProvider provider = new RedisTSOProvider();
+    
+    @BeforeEach
+    void setUp() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        setJedisPool();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setJedisPool() {
+        Plugins.getMemberAccessor().set(RedisTSOProvider.class.getDeclaredField("jedisPool"), provider, jedisPool);
+    }
+    
+    @Test
+    void assertGetCurrentTimestamp() {
+        when(jedis.get("csn")).thenReturn("100");
+        assertThat(provider.getCurrentTimestamp(), is(100L));
+        verify(jedis).close();
+    }
+    
+    @Test
+    void assertGetNextTimestamp() {
+        when(jedis.incr("csn")).thenReturn(101L, 102L);
+        assertThat(provider.getNextTimestamp(), is(101L));
+        assertThat(provider.getNextTimestamp(), is(102L));
+        verify(jedis, times(2)).incr("csn");
+        verify(jedis, times(2)).close();
+    }
+}
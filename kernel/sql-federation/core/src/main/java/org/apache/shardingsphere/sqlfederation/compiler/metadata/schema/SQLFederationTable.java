@@ -36,15 +36,18 @@ import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerablePushDownTableScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerablePushDownTableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.compiler.operator.physical.enumerable.EnumerablePushDownTableScan;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationColumnStatistic;
 import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatistic;
 
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * SQL federation table.
@@ -107,6 +110,35 @@ public final class SQLFederationTable extends AbstractTable implements Queryable
         return pushDownTableScanExecutor.execute(table, new EnumerablePushDownTableScanExecutorContext(root, null, projects));
     }
     
+    /**
+     * Refresh statistic with collected ShardingSphere data.
+     *
+     * @param databaseName database name
+     * @param data ShardingSphere data
+     */
+    public void refreshStatistic(final String databaseName, final ShardingSphereData data) {
+        statistic.refresh(databaseName, table.getName(), data);
+    }
+    
+    /**
+     * Get statistic version.
+     *
+     * @return statistic version
+     */
+    public int getStatisticVersion() {
+        return statistic.getVersion();
+    }
+    
+    /**
+     * Find column statistic.
+     *
+     * @param columnName column name
+     * @return found column statistic
+     */
+    public Optional<SQLFederationColumnStatistic> findColumnStatistic(final String columnName) {
+        return statistic.findColumnStatistic(columnName);
+    }
+    
     /**
      * Get column type from table by column identity.
      *
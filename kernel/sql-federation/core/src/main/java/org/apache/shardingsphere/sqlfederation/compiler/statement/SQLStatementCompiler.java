@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
 import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
 import org.apache.calcite.rel.type.RelDataType;
@@ -29,7 +31,10 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationRelMdDistinctRowCount;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationRelMdSelectivity;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -38,6 +43,9 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public final class SQLStatementCompiler {
     
+    private static final JaninoRelMetadataProvider METADATA_PROVIDER = JaninoRelMetadataProvider.of(
+            ChainedRelMetadataProvider.of(Arrays.asList(SQLFederationRelMdDistinctRowCount.SOURCE, SQLFederationRelMdSelectivity.SOURCE, DefaultRelMetadataProvider.INSTANCE)));
+    
     private final SqlToRelConverter converter;
     
     private final RelOptPlanner hepPlanner;
@@ -49,7 +57,7 @@ public final class SQLStatementCompiler {
      * @return sql federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement) {
-        RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(METADATA_PROVIDER);
         SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
         RelNode logicPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
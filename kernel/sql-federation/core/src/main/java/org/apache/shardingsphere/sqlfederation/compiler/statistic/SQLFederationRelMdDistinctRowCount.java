@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.Optional;
+
+/**
+ * SQL federation distinct row count metadata handler.
+ *
+ * <p>Distinct row count of table scan is estimated with the distinct count of collected column statistics, other relations fall back to Calcite.</p>
+ */
+public final class SQLFederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class);
+    
+    /**
+     * Get distinct row count of table scan.
+     *
+     * @param scan table scan
+     * @param mq rel metadata query
+     * @param groupKey column indexes of group key
+     * @param predicate predicate applied before grouping
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final TableScan scan, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Double rowCount = mq.getRowCount(scan);
+        if (groupKey.isEmpty() || null == rowCount) {
+            return super.getDistinctRowCount(scan, mq, groupKey, predicate);
+        }
+        double distinctCount = 1D;
+        for (int each : groupKey) {
+            Optional<SQLFederationColumnStatistic> columnStatistic = SQLFederationStatisticUtils.findColumnStatistic(scan, each);
+            if (!columnStatistic.isPresent() || columnStatistic.get().getDistinctCount() <= 0D) {
+                return super.getDistinctRowCount(scan, mq, groupKey, predicate);
+            }
+            distinctCount *= columnStatistic.get().getDistinctCount();
+        }
+        double result = Math.min(distinctCount, rowCount);
+        if (null == predicate || predicate.isAlwaysTrue()) {
+            return result;
+        }
+        Double selectivity = mq.getSelectivity(scan, predicate);
+        return null == selectivity ? result : RelMdUtil.numDistinctVals(result, rowCount * selectivity);
+    }
+}
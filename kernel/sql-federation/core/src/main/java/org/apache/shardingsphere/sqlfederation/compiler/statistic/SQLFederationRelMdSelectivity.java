@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdSelectivity;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * SQL federation selectivity metadata handler.
+ *
+ * <p>Selectivity of equality and range comparisons between column and literal on table scan is estimated with the distinct count, min and max values
+ * of collected column statistics, other predicates and relations fall back to Calcite.</p>
+ */
+public final class SQLFederationRelMdSelectivity extends RelMdSelectivity {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdSelectivity(), BuiltInMetadata.Selectivity.Handler.class);
+    
+    /**
+     * Get selectivity of table scan.
+     *
+     * @param scan table scan
+     * @param mq rel metadata query
+     * @param predicate predicate
+     * @return selectivity
+     */
+    public Double getSelectivity(final TableScan scan, final RelMetadataQuery mq, final RexNode predicate) {
+        if (null == predicate || predicate.isAlwaysTrue()) {
+            return super.getSelectivity(scan, mq, predicate);
+        }
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= getConjunctionSelectivity(scan, each);
+        }
+        return result;
+    }
+    
+    private double getConjunctionSelectivity(final TableScan scan, final RexNode predicate) {
+        if (!(predicate instanceof RexCall) || 2 != ((RexCall) predicate).getOperands().size()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        RexNode left = ((RexCall) predicate).getOperands().get(0);
+        RexNode right = ((RexCall) predicate).getOperands().get(1);
+        Optional<Double> result = Optional.empty();
+        if (left instanceof RexInputRef && right instanceof RexLiteral) {
+            result = getComparisonSelectivity(scan, predicate.getKind(), (RexInputRef) left, (RexLiteral) right);
+        } else if (right instanceof RexInputRef && left instanceof RexLiteral) {
+            result = getComparisonSelectivity(scan, predicate.getKind().reverse(), (RexInputRef) right, (RexLiteral) left);
+        }
+        return result.orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+    }
+    
+    private Optional<Double> getComparisonSelectivity(final TableScan scan, final SqlKind kind, final RexInputRef column, final RexLiteral literal) {
+        Optional<SQLFederationColumnStatistic> columnStatistic = SQLFederationStatisticUtils.findColumnStatistic(scan, column.getIndex());
+        if (!columnStatistic.isPresent()) {
+            return Optional.empty();
+        }
+        if (SqlKind.EQUALS == kind) {
+            return columnStatistic.get().getDistinctCount() > 0D ? Optional.of(1D / columnStatistic.get().getDistinctCount()) : Optional.empty();
+        }
+        if (!SqlTypeUtil.isNumeric(literal.getType()) || !(columnStatistic.get().getMinValue() instanceof BigDecimal) || !(columnStatistic.get().getMaxValue() instanceof BigDecimal)) {
+            return Optional.empty();
+        }
+        BigDecimal value = literal.getValueAs(BigDecimal.class);
+        BigDecimal minValue = (BigDecimal) columnStatistic.get().getMinValue();
+        BigDecimal maxValue = (BigDecimal) columnStatistic.get().getMaxValue();
+        if (null == value || maxValue.compareTo(minValue) <= 0) {
+            return Optional.empty();
+        }
+        double range = maxValue.subtract(minValue).doubleValue();
+        switch (kind) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return Optional.of(clamp(value.subtract(minValue).doubleValue() / range));
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return Optional.of(clamp(maxValue.subtract(value).doubleValue() / range));
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private double clamp(final double selectivity) {
+        return Math.max(0D, Math.min(1D, selectivity));
+    }
+}
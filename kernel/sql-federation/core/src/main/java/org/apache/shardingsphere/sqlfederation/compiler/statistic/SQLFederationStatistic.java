@@ -22,15 +22,87 @@ import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private static final long REFRESH_INTERVAL_MILLIS = 30000L;
+    
+    private volatile long refreshedMillis;
+    
+    private volatile Double rowCount;
+    
+    private volatile Map<String, SQLFederationColumnStatistic> columnStatistics = Collections.emptyMap();
+    
+    private final AtomicInteger version = new AtomicInteger();
+    
+    /**
+     * Refresh statistic with collected ShardingSphere data.
+     *
+     * <p>ShardingSphere data is collected by background collector, so refresh at most once per collecting interval.</p>
+     *
+     * @param databaseName database name
+     * @param tableName table name
+     * @param data ShardingSphere data
+     */
+    public void refresh(final String databaseName, final String tableName, final ShardingSphereData data) {
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis - refreshedMillis < REFRESH_INTERVAL_MILLIS) {
+            return;
+        }
+        refreshedMillis = currentMillis;
+        SQLFederationStatisticLoader.load(databaseName, tableName, data, this);
+    }
+    
+    /**
+     * Update statistic.
+     *
+     * @param rowCount row count
+     * @param columnStatistics column statistics, key is lower case column name
+     */
+    public void update(final double rowCount, final Map<String, SQLFederationColumnStatistic> columnStatistics) {
+        if (null != this.rowCount && this.rowCount == rowCount && this.columnStatistics.equals(columnStatistics)) {
+            return;
+        }
+        version.incrementAndGet();
+        this.rowCount = rowCount;
+        this.columnStatistics = Collections.unmodifiableMap(columnStatistics);
+    }
+    
+    /**
+     * Get version, which is increased whenever statistic changed.
+     *
+     * @return version
+     */
+    public int getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Find column statistic.
+     *
+     * @param columnName column name
+     * @return found column statistic
+     */
+    public Optional<SQLFederationColumnStatistic> findColumnStatistic(final String columnName) {
+        return Optional.ofNullable(columnStatistics.get(columnName.toLowerCase()));
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
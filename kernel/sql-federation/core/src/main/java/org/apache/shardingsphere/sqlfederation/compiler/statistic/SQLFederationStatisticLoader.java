@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SQL federation statistic loader.
+ *
+ * <p>Load statistic of logic table from sharding statistics tables which collected by background collector and persisted by metadata repository.</p>
+ *
+ * <p>Column statistics only cover sharding columns. Rows with the same sharding value are routed to the same actual table, so distinct counts of actual tables
+ * are summed as distinct count of logic table. For tables sharded by multiple columns, values of one column may still repeat between actual tables,
+ * then the sum capped by row count is an upper bound. Distinct count of logic table is unknown, as 0, if distinct count of any actual table is unknown.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int TABLE_ROW_COUNT_INDEX = 5;
+    
+    private static final int COLUMN_NAME_INDEX = 5;
+    
+    private static final int COLUMN_DISTINCT_COUNT_INDEX = 6;
+    
+    private static final int COLUMN_MIN_VALUE_INDEX = 7;
+    
+    private static final int COLUMN_MAX_VALUE_INDEX = 8;
+    
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
+    
+    /**
+     * Load statistic.
+     *
+     * @param databaseName database name
+     * @param tableName logic table name
+     * @param data ShardingSphere data
+     * @param statistic SQL federation statistic to be updated
+     */
+    public static void load(final String databaseName, final String tableName, final ShardingSphereData data, final SQLFederationStatistic statistic) {
+        Optional<ShardingSphereSchemaData> schemaData = findShardingSphereSchemaData(databaseName, data);
+        if (!schemaData.isPresent() || !schemaData.get().containsTable(SHARDING_TABLE_STATISTICS)) {
+            return;
+        }
+        double rowCount = 0D;
+        boolean found = false;
+        for (ShardingSphereRowData each : schemaData.get().getTable(SHARDING_TABLE_STATISTICS).getRows()) {
+            if (each.getRows().size() > TABLE_ROW_COUNT_INDEX && isLogicTableRow(databaseName, tableName, each.getRows())) {
+                rowCount += toDouble(each.getRows().get(TABLE_ROW_COUNT_INDEX));
+                found = true;
+            }
+        }
+        if (found) {
+            statistic.update(rowCount, loadColumnStatistics(databaseName, tableName, rowCount, schemaData.get().getTable(SHARDING_COLUMN_STATISTICS)));
+        }
+    }
+    
+    private static Optional<ShardingSphereSchemaData> findShardingSphereSchemaData(final String databaseName, final ShardingSphereData data) {
+        if (null == data) {
+            return Optional.empty();
+        }
+        ShardingSphereDatabaseData databaseData = data.containsDatabase(databaseName) && data.getDatabase(databaseName).containsSchema(SHARDING_SPHERE)
+                ? data.getDatabase(databaseName)
+                : data.getDatabase(SHARDING_SPHERE);
+        return null == databaseData ? Optional.empty() : Optional.ofNullable(databaseData.getSchema(SHARDING_SPHERE));
+    }
+    
+    private static Map<String, SQLFederationColumnStatistic> loadColumnStatistics(final String databaseName, final String tableName, final double rowCount,
+                                                                                  final ShardingSphereTableData columnStatisticsTableData) {
+        Map<String, SQLFederationColumnStatistic> result = new HashMap<>();
+        if (null == columnStatisticsTableData) {
+            return result;
+        }
+        for (ShardingSphereRowData each : columnStatisticsTableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= COLUMN_MAX_VALUE_INDEX || !isLogicTableRow(databaseName, tableName, row) || null == row.get(COLUMN_NAME_INDEX)) {
+                continue;
+            }
+            String columnName = row.get(COLUMN_NAME_INDEX).toString().toLowerCase();
+            SQLFederationColumnStatistic actualColumnStatistic = new SQLFederationColumnStatistic(
+                    toDouble(row.get(COLUMN_DISTINCT_COUNT_INDEX)), toComparable(row.get(COLUMN_MIN_VALUE_INDEX)), toComparable(row.get(COLUMN_MAX_VALUE_INDEX)));
+            result.merge(columnName, actualColumnStatistic, (oldValue, newValue) -> merge(oldValue, newValue, rowCount));
+        }
+        return result;
+    }
+    
+    private static boolean isLogicTableRow(final String databaseName, final String tableName, final List<Object> row) {
+        return null != row.get(LOGIC_DATABASE_NAME_INDEX) && databaseName.equalsIgnoreCase(row.get(LOGIC_DATABASE_NAME_INDEX).toString())
+                && null != row.get(LOGIC_TABLE_NAME_INDEX) && tableName.equalsIgnoreCase(row.get(LOGIC_TABLE_NAME_INDEX).toString());
+    }
+    
+    private static SQLFederationColumnStatistic merge(final SQLFederationColumnStatistic oldValue, final SQLFederationColumnStatistic newValue, final double rowCount) {
+        double distinctCount = oldValue.getDistinctCount() <= 0D || newValue.getDistinctCount() <= 0D ? 0D : Math.min(oldValue.getDistinctCount() + newValue.getDistinctCount(), rowCount);
+        return new SQLFederationColumnStatistic(distinctCount, min(oldValue.getMinValue(), newValue.getMinValue()), max(oldValue.getMaxValue(), newValue.getMaxValue()));
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Comparable<?> min(final Comparable oldValue, final Comparable newValue) {
+        if (null == oldValue || null == newValue || oldValue.getClass() != newValue.getClass()) {
+            return null == oldValue ? newValue : oldValue;
+        }
+        return oldValue.compareTo(newValue) <= 0 ? oldValue : newValue;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Comparable<?> max(final Comparable oldValue, final Comparable newValue) {
+        if (null == oldValue || null == newValue || oldValue.getClass() != newValue.getClass()) {
+            return null == oldValue ? newValue : oldValue;
+        }
+        return oldValue.compareTo(newValue) >= 0 ? oldValue : newValue;
+    }
+    
+    private static double toDouble(final Object value) {
+        if (null == value) {
+            return 0D;
+        }
+        return value instanceof Number ? ((Number) value).doubleValue() : new BigDecimal(value.toString()).doubleValue();
+    }
+    
+    private static Comparable<?> toComparable(final Object value) {
+        if (null == value) {
+            return null;
+        }
+        String text = value.toString();
+        return NUMBER_PATTERN.matcher(text).matches() ? new BigDecimal(text) : text;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+
+import java.util.Optional;
+
+/**
+ * SQL federation statistic utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtils {
+    
+    /**
+     * Find column statistic of table scan.
+     *
+     * @param scan table scan
+     * @param columnIndex column index of table scan row type
+     * @return found column statistic
+     */
+    public static Optional<SQLFederationColumnStatistic> findColumnStatistic(final TableScan scan, final int columnIndex) {
+        SQLFederationTable table = scan.getTable().unwrap(SQLFederationTable.class);
+        if (null == table || columnIndex >= scan.getRowType().getFieldCount()) {
+            return Optional.empty();
+        }
+        return table.findColumnStatistic(scan.getRowType().getFieldList().get(columnIndex).getName());
+    }
+}
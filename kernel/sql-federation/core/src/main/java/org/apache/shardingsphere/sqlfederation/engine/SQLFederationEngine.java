@@ -173,21 +173,26 @@ public final class SQLFederationEngine implements AutoCloseable {
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext());
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(schemaName, new SQLStatementCompiler(plannerContext.getConverter(schemaName), plannerContext.getHepPlanner()),
                 sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext), federationContext.getQueryContext().isUseCache());
+        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext, sqlFederationSchema), federationContext.getQueryContext().isUseCache());
     }
     
-    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationExecutorContext federationContext, final SelectStatementContext selectStatementContext) {
+    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationExecutorContext federationContext, final SelectStatementContext selectStatementContext, final Schema sqlFederationSchema) {
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
         ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement());
         for (String each : selectStatementContext.getTablesContext().getTableNames()) {
             ShardingSphereTable table = schema.getTable(each);
             ShardingSpherePreconditions.checkState(null != table, () -> new NoSuchTableException(each));
             // TODO replace DEFAULT_METADATA_VERSION with actual version in ShardingSphereTable
-            result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION);
+            result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION + getStatisticVersion(sqlFederationSchema, each));
         }
         return result;
     }
     
+    private int getStatisticVersion(final Schema sqlFederationSchema, final String tableName) {
+        Table table = sqlFederationSchema.getTable(tableName);
+        return table instanceof SQLFederationTable ? ((SQLFederationTable) table).getStatisticVersion() : 0;
+    }
+    
     private void registerTableScanExecutor(final Schema sqlFederationSchema, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                            final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext,
                                            final OptimizerContext optimizerContext) {
@@ -198,6 +203,7 @@ public final class SQLFederationEngine implements AutoCloseable {
             Table table = sqlFederationSchema.getTable(each);
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setPushDownTableScanExecutor(pushDownTableScanExecutor);
+                ((SQLFederationTable) table).refreshStatistic(databaseName, statistics);
             }
         }
     }
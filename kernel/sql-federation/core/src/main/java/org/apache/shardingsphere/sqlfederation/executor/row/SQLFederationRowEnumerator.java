@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.row;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
@@ -33,17 +32,26 @@ import java.util.Collection;
  * 
  * @param <T> type of row
  */
-@RequiredArgsConstructor
 public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
     
     private final MergedResult queryResult;
     
-    private final QueryResultMetaData metaData;
-    
     private final Collection<Statement> statements;
     
+    private final int columnCount;
+    
     private T currentRow;
     
+    public SQLFederationRowEnumerator(final MergedResult queryResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
+        this.queryResult = queryResult;
+        this.statements = statements;
+        try {
+            columnCount = metaData.getColumnCount();
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
     @Override
     public T current() {
         return currentRow;
@@ -60,20 +68,21 @@ public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
             setCurrentRow();
             return true;
         }
+        currentRow = null;
         return false;
     }
     
     @SuppressWarnings("unchecked")
     private void setCurrentRow() throws SQLException {
-        if (1 == metaData.getColumnCount()) {
-            this.currentRow = (T) queryResult.getValue(1, Object.class);
-        } else {
-            Object[] rowValues = new Object[metaData.getColumnCount()];
-            for (int i = 0; i < metaData.getColumnCount(); i++) {
-                rowValues[i] = queryResult.getValue(i + 1, Object.class);
-            }
-            this.currentRow = (T) rowValues;
+        if (1 == columnCount) {
+            currentRow = (T) queryResult.getValue(1, Object.class);
+            return;
+        }
+        Object[] rowValues = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            rowValues[i] = queryResult.getValue(i + 1, Object.class);
         }
+        currentRow = (T) rowValues;
     }
     
     @Override
@@ -83,6 +92,7 @@ public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
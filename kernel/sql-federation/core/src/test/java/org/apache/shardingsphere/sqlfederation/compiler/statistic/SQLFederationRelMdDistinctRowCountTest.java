@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRelMdDistinctRowCountTest {
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final SQLFederationRelMdDistinctRowCount distinctRowCount = new SQLFederationRelMdDistinctRowCount();
+    
+    private TableScan scan;
+    
+    private RelMetadataQuery mq;
+    
+    @BeforeEach
+    void setUp() {
+        SQLFederationStatistic statistic = new SQLFederationStatistic();
+        statistic.update(100D, Collections.singletonMap("order_id", new SQLFederationColumnStatistic(50D, new BigDecimal(1), new BigDecimal(101))));
+        RelOptTable relOptTable = mock(RelOptTable.class);
+        when(relOptTable.unwrap(SQLFederationTable.class)).thenReturn(new SQLFederationTable(mock(ShardingSphereTable.class), statistic, mock(DatabaseType.class)));
+        scan = mock(TableScan.class);
+        when(scan.getTable()).thenReturn(relOptTable);
+        when(scan.getRowType()).thenReturn(typeFactory.builder().add("order_id", SqlTypeName.BIGINT).add("status", SqlTypeName.VARCHAR).build());
+        mq = mock(RelMetadataQuery.class);
+        when(mq.getRowCount(scan)).thenReturn(100D);
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithoutPredicate() {
+        assertThat(distinctRowCount.getDistinctRowCount(scan, mq, ImmutableBitSet.of(0), null), is(50D));
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithPredicate() {
+        RexBuilder rexBuilder = new RexBuilder(typeFactory);
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeInputRef(typeFactory.createSqlType(SqlTypeName.BIGINT), 0), rexBuilder.makeExactLiteral(new BigDecimal(26)));
+        when(mq.getSelectivity(scan, predicate)).thenReturn(0.25D);
+        Double actual = distinctRowCount.getDistinctRowCount(scan, mq, ImmutableBitSet.of(0), predicate);
+        assertTrue(actual > 0D && actual <= 25D);
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithoutColumnStatistic() {
+        assertNull(distinctRowCount.getDistinctRowCount(scan, mq, ImmutableBitSet.of(1), null));
+    }
+}
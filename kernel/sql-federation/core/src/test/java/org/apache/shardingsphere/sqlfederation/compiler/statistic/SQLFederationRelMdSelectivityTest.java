@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.IsCloseTo.closeTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRelMdSelectivityTest {
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    private final SQLFederationRelMdSelectivity selectivity = new SQLFederationRelMdSelectivity();
+    
+    private TableScan scan;
+    
+    private RelDataType rowType;
+    
+    @BeforeEach
+    void setUp() {
+        rowType = typeFactory.builder().add("order_id", SqlTypeName.BIGINT).add("status", SqlTypeName.VARCHAR).build();
+        SQLFederationStatistic statistic = new SQLFederationStatistic();
+        statistic.update(100D, Collections.singletonMap("order_id", new SQLFederationColumnStatistic(50D, new BigDecimal(1), new BigDecimal(101))));
+        RelOptTable relOptTable = mock(RelOptTable.class);
+        when(relOptTable.unwrap(SQLFederationTable.class)).thenReturn(new SQLFederationTable(mock(ShardingSphereTable.class), statistic, mock(DatabaseType.class)));
+        scan = mock(TableScan.class);
+        when(scan.getTable()).thenReturn(relOptTable);
+        when(scan.getRowType()).thenReturn(rowType);
+    }
+    
+    @Test
+    void assertGetSelectivityWithEquals() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, createOrderIdInputRef(), rexBuilder.makeExactLiteral(new BigDecimal(10)));
+        assertThat(selectivity.getSelectivity(scan, mock(RelMetadataQuery.class), predicate), closeTo(0.02D, 0.0001D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithRange() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, createOrderIdInputRef(), rexBuilder.makeExactLiteral(new BigDecimal(26)));
+        assertThat(selectivity.getSelectivity(scan, mock(RelMetadataQuery.class), predicate), closeTo(0.25D, 0.0001D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithReversedRange() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeExactLiteral(new BigDecimal(26)), createOrderIdInputRef());
+        assertThat(selectivity.getSelectivity(scan, mock(RelMetadataQuery.class), predicate), closeTo(0.75D, 0.0001D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithOutOfRangeValue() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, createOrderIdInputRef(), rexBuilder.makeExactLiteral(new BigDecimal(200)));
+        assertThat(selectivity.getSelectivity(scan, mock(RelMetadataQuery.class), predicate), is(0D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithConjunctions() {
+        RexNode equals = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, createOrderIdInputRef(), rexBuilder.makeExactLiteral(new BigDecimal(10)));
+        RexNode range = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, createOrderIdInputRef(), rexBuilder.makeExactLiteral(new BigDecimal(26)));
+        assertThat(selectivity.getSelectivity(scan, mock(RelMetadataQuery.class), rexBuilder.makeCall(SqlStdOperatorTable.AND, equals, range)), closeTo(0.005D, 0.0001D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithoutColumnStatistic() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(rowType.getFieldList().get(1).getType(), 1), rexBuilder.makeLiteral("PAID"));
+        assertThat(selectivity.getSelectivity(scan, mock(RelMetadataQuery.class), predicate), closeTo(0.15D, 0.0001D));
+    }
+    
+    private RexNode createOrderIdInputRef() {
+        return rexBuilder.makeInputRef(rowType.getFieldList().get(0).getType(), 0);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertRefreshWithoutCollectedData() {
+        SQLFederationStatistic actual = new SQLFederationStatistic();
+        actual.refresh("sharding_db", "t_order", new ShardingSphereData());
+        assertNull(actual.getRowCount());
+        assertFalse(actual.findColumnStatistic("order_id").isPresent());
+    }
+    
+    @Test
+    void assertRefresh() {
+        SQLFederationStatistic actual = new SQLFederationStatistic();
+        actual.refresh("sharding_db", "t_order", createShardingSphereData());
+        assertThat(actual.getRowCount(), is(300D));
+        Optional<SQLFederationColumnStatistic> columnStatistic = actual.findColumnStatistic("ORDER_ID");
+        assertTrue(columnStatistic.isPresent());
+        assertThat(columnStatistic.get().getDistinctCount(), is(300D));
+        assertThat(columnStatistic.get().getMinValue().toString(), is("1"));
+        assertThat(columnStatistic.get().getMaxValue().toString(), is("300"));
+        Optional<SQLFederationColumnStatistic> userIdStatistic = actual.findColumnStatistic("user_id");
+        assertTrue(userIdStatistic.isPresent());
+        assertThat(userIdStatistic.get().getDistinctCount(), is(20D));
+        assertThat(userIdStatistic.get().getMinValue().toString(), is("a"));
+        assertThat(userIdStatistic.get().getMaxValue().toString(), is("z"));
+    }
+    
+    @Test
+    void assertRefreshAtMostOncePerInterval() {
+        SQLFederationStatistic actual = new SQLFederationStatistic();
+        actual.refresh("sharding_db", "t_order", createShardingSphereData());
+        actual.refresh("sharding_db", "t_order", new ShardingSphereData());
+        assertThat(actual.getRowCount(), is(300D));
+    }
+    
+    @Test
+    void assertUpdateVersion() {
+        SQLFederationStatistic actual = new SQLFederationStatistic();
+        actual.update(100D, Collections.singletonMap("order_id", new SQLFederationColumnStatistic(100D, new BigDecimal("1"), new BigDecimal("100"))));
+        assertThat(actual.getVersion(), is(1));
+        actual.update(100D, Collections.singletonMap("order_id", new SQLFederationColumnStatistic(100D, new BigDecimal("1"), new BigDecimal("100"))));
+        assertThat(actual.getVersion(), is(1));
+        actual.update(200D, Collections.singletonMap("order_id", new SQLFederationColumnStatistic(200D, new BigDecimal("1"), new BigDecimal("200"))));
+        assertThat(actual.getVersion(), is(2));
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableStatistics = new ShardingSphereTableData("sharding_table_statistics");
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", new BigDecimal("200"), BigDecimal.ZERO)));
+        tableStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "sharding_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("900"), BigDecimal.ZERO)));
+        ShardingSphereTableData columnStatistics = new ShardingSphereTableData("sharding_column_statistics");
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", "order_id", new BigDecimal("100"), "1", "100")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", "order_id", new BigDecimal("200"), "101", "300")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "sharding_db", "t_order", "ds_0", "t_order_0", "user_id", new BigDecimal("10"), "a", "m")));
+        columnStatistics.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "sharding_db", "t_order", "ds_1", "t_order_1", "user_id", new BigDecimal("10"), "b", "z")));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableStatistics);
+        schemaData.putTable("sharding_column_statistics", columnStatistics);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
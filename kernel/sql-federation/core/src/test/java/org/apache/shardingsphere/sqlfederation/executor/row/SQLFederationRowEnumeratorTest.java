@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNextWithMultipleColumns() throws SQLException {
+        MergedResult mergedResult = mockMergedResult(10);
+        QueryResultMetaData metaData = mockMetaData(2);
+        SQLFederationRowEnumerator<Object[]> actual = new SQLFederationRowEnumerator<>(mergedResult, metaData, Collections.emptyList());
+        int count = 0;
+        while (actual.moveNext()) {
+            assertThat(actual.current().length, is(2));
+            assertThat(actual.current()[0], is(count));
+            assertThat(actual.current()[1], is("value_" + count));
+            count++;
+        }
+        assertThat(count, is(10));
+        assertNull(actual.current());
+        verify(mergedResult, times(11)).next();
+        verify(metaData).getColumnCount();
+    }
+    
+    @Test
+    void assertMoveNextWithSingleColumn() throws SQLException {
+        SQLFederationRowEnumerator<Object> actual = new SQLFederationRowEnumerator<>(mockMergedResult(2), mockMetaData(1), Collections.emptyList());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(0));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(1));
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertMoveNextFetchesFirstRowOnly() throws SQLException {
+        MergedResult mergedResult = mockMergedResult(10);
+        SQLFederationRowEnumerator<Object[]> actual = new SQLFederationRowEnumerator<>(mergedResult, mockMetaData(2), Collections.emptyList());
+        assertTrue(actual.moveNext());
+        verify(mergedResult, times(1)).next();
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        MergedResult mergedResult = mockMergedResult(0);
+        Statement statement = mock(Statement.class);
+        new SQLFederationRowEnumerator<>(mergedResult, mockMetaData(1), Collections.singletonList(statement)).close();
+        verify(mergedResult).close();
+        verify(statement).close();
+    }
+    
+    private MergedResult mockMergedResult(final int rowCount) throws SQLException {
+        MergedResult result = mock(MergedResult.class);
+        int[] cursor = {-1};
+        when(result.next()).thenAnswer(invocation -> ++cursor[0] < rowCount);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> cursor[0]);
+        when(result.getValue(2, Object.class)).thenAnswer(invocation -> "value_" + cursor[0]);
+        return result;
+    }
+    
+    private QueryResultMetaData mockMetaData(final int columnCount) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(columnCount);
+        return result;
+    }
+}
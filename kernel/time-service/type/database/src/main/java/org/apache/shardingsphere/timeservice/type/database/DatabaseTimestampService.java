@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.timeservice.type.database;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
@@ -35,26 +36,89 @@ import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Database timestamp service.
+ * 
+ * <p>With a positive sync interval, the clock offset between database and local clock is synchronized periodically
+ * and timestamps are served from local clock, which never go backwards.</p>
  */
+@Slf4j
 public final class DatabaseTimestampService implements TimestampService {
     
+    private static final String SYNC_INTERVAL_MILLISECONDS_KEY = "syncIntervalMilliseconds";
+    
+    private final AtomicBoolean syncing = new AtomicBoolean();
+    
+    private final AtomicLong lastTimestamp = new AtomicLong();
+    
     private DataSource dataSource;
     
     private DatabaseType storageType;
     
+    private long syncIntervalMillis;
+    
+    private volatile boolean synced;
+    
+    private volatile long clockOffsetMillis;
+    
+    private volatile long lastSyncMillis;
+    
     @Override
     public void init(final Properties props) {
-        dataSource = DataSourcePoolCreator.create(new YamlDataSourceConfigurationSwapper().swapToDataSourceProperties(
-                props.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue, (key, value) -> value))));
+        syncIntervalMillis = Long.parseLong(props.getProperty(SYNC_INTERVAL_MILLISECONDS_KEY, "0"));
+        dataSource = DataSourcePoolCreator.create(new YamlDataSourceConfigurationSwapper().swapToDataSourceProperties(props.entrySet().stream()
+                .filter(entry -> !SYNC_INTERVAL_MILLISECONDS_KEY.equals(entry.getKey())).collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue, (key, value) -> value))));
         storageType = DatabaseTypeEngine.getStorageType(Collections.singleton(dataSource));
     }
     
     @Override
     public Timestamp getTimestamp() {
+        if (syncIntervalMillis <= 0L) {
+            return loadDatetime();
+        }
+        if (!synced || System.currentTimeMillis() - lastSyncMillis >= syncIntervalMillis) {
+            syncClockOffset();
+        }
+        long result = lastTimestamp.accumulateAndGet(System.currentTimeMillis() + clockOffsetMillis, Math::max);
+        return new Timestamp(result);
+    }
+    
+    private void syncClockOffset() {
+        if (!synced) {
+            synchronized (this) {
+                if (!synced) {
+                    loadClockOffset();
+                }
+            }
+            return;
+        }
+        if (!syncing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            loadClockOffset();
+        } catch (final DatetimeLoadingException ex) {
+            log.warn("Sync clock offset from database failed, keep using previous clock offset.", ex);
+            lastSyncMillis = System.currentTimeMillis();
+        } finally {
+            syncing.set(false);
+        }
+    }
+    
+    private void loadClockOffset() {
+        long startMillis = System.currentTimeMillis();
+        Timestamp datetime = loadDatetime();
+        long endMillis = System.currentTimeMillis();
+        clockOffsetMillis = datetime.getTime() - (startMillis + endMillis) / 2L;
+        lastSyncMillis = endMillis;
+        synced = true;
+    }
+    
+    private Timestamp loadDatetime() {
         try {
             return loadDatetime(dataSource, TypedSPILoader.getService(TimestampLoadingSQLProvider.class, DatabaseTypeEngine.getTrunkDatabaseTypeName(storageType)).getTimestampLoadingSQL());
         } catch (final SQLException ex) {
@@ -23,8 +23,10 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.timeservice.spi.TimestampService;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Timestamp;
 import java.util.Properties;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DatabaseTimestampServiceTest {
@@ -40,4 +42,22 @@ class DatabaseTimestampServiceTest {
         long currentTime = System.currentTimeMillis();
         assertTrue(TypedSPILoader.getService(TimestampService.class, "Database", props).getTimestamp().getTime() >= currentTime);
     }
+    
+    @Test
+    void assertTimestampWithSyncInterval() {
+        Properties props = PropertiesBuilder.build(
+                new Property("dataSourceClassName", "com.zaxxer.hikari.HikariDataSource"),
+                new Property("jdbcUrl", "jdbc:h2:mem:foo_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL"),
+                new Property("username", "sa"),
+                new Property("password", ""),
+                new Property("maximumPoolSize", "1"),
+                new Property("syncIntervalMilliseconds", "60000"));
+        TimestampService timestampService = TypedSPILoader.getService(TimestampService.class, "Database", props);
+        Timestamp previous = timestampService.getTimestamp();
+        for (int i = 0; i < 100; i++) {
+            Timestamp actual = timestampService.getTimestamp();
+            assertFalse(actual.before(previous));
+            previous = actual;
+        }
+    }
 }
@@ -139,13 +139,22 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
+                if (1 == setSQLs.size()) {
+                    statement.execute(setSQLs.get(0));
+                } else {
+                    executeSetSessionVariablesInBatch(statement, setSQLs);
                 }
             }
         }
     }
     
+    private void executeSetSessionVariablesInBatch(final Statement statement, final List<String> setSQLs) throws SQLException {
+        for (String each : setSQLs) {
+            statement.addBatch(each);
+        }
+        statement.executeBatch();
+    }
+    
     private void releaseConnection(final List<Connection> connections, final SQLException sqlException) {
         for (Connection each : connections) {
             try {
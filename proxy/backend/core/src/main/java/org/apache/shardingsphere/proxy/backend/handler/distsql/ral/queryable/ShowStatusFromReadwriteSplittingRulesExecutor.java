@@ -37,6 +37,8 @@ import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositor
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.queryable.executor.ConnectionSessionRequiredQueryableRALExecutor;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DatabaseReadDataSourceLatencyRegistries;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReadDataSourceLatency;
 import org.apache.shardingsphere.readwritesplitting.distsql.parser.statement.ShowStatusFromReadwriteSplittingRulesStatement;
 
 import java.util.Arrays;
@@ -49,6 +51,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -58,7 +61,7 @@ public final class ShowStatusFromReadwriteSplittingRulesExecutor implements Conn
     
     @Override
     public Collection<String> getColumnNames() {
-        return Arrays.asList("storage_unit", "status");
+        return Arrays.asList("storage_unit", "status", "ewma_latency_milliseconds", "outstanding_requests");
     }
     
     @Override
@@ -68,7 +71,7 @@ public final class ShowStatusFromReadwriteSplittingRulesExecutor implements Conn
         ShardingSphereDatabase database = metaData.getDatabase(databaseName);
         Collection<String> allReadResources = getAllReadResources(database, sqlStatement.getGroupName());
         Map<String, StorageNodeDataSource> persistentReadResources = getPersistentReadResources(databaseName, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getPersistService());
-        return buildRows(allReadResources, persistentReadResources);
+        return buildRows(databaseName, allReadResources, persistentReadResources);
     }
     
     private String getDatabaseName(final ConnectionSession connectionSession, final ShowStatusFromReadwriteSplittingRulesStatement sqlStatement) {
@@ -111,7 +114,7 @@ public final class ShowStatusFromReadwriteSplittingRulesExecutor implements Conn
         return result;
     }
     
-    private Collection<LocalDataQueryResultRow> buildRows(final Collection<String> readResources, final Map<String, StorageNodeDataSource> persistentReadResources) {
+    private Collection<LocalDataQueryResultRow> buildRows(final String databaseName, final Collection<String> readResources, final Map<String, StorageNodeDataSource> persistentReadResources) {
         Map<DataSourceState, Map<String, StorageNodeDataSource>> persistentReadResourceGroup = persistentReadResources.entrySet().stream()
                 .collect(Collectors.groupingBy(each -> each.getValue().getStatus(), Collectors.toMap(Entry::getKey, Entry::getValue)));
         Map<String, StorageNodeDataSource> disabledReadResources = persistentReadResourceGroup.getOrDefault(DataSourceState.DISABLED, Collections.emptyMap());
@@ -119,19 +122,20 @@ public final class ShowStatusFromReadwriteSplittingRulesExecutor implements Conn
         readResources.removeIf(disabledReadResources::containsKey);
         readResources.addAll(enabledReadResources.keySet());
         readResources.addAll(disabledReadResources.keySet());
-        return readResources.stream().map(each -> buildRow(each, disabledReadResources.get(each))).collect(Collectors.toList());
+        return readResources.stream().map(each -> buildRow(databaseName, each, disabledReadResources.get(each))).collect(Collectors.toList());
     }
     
     private List<String> deconstructString(final String str) {
         return new LinkedList<>(Arrays.asList(str.split(",")));
     }
     
-    private LocalDataQueryResultRow buildRow(final String resource, final StorageNodeDataSource storageNodeDataSource) {
-        if (null == storageNodeDataSource) {
-            return new LocalDataQueryResultRow(resource, DataSourceState.ENABLED.name());
+    private LocalDataQueryResultRow buildRow(final String databaseName, final String resource, final StorageNodeDataSource storageNodeDataSource) {
+        String status = null == storageNodeDataSource ? DataSourceState.ENABLED.name() : storageNodeDataSource.getStatus().name();
+        Optional<ReadDataSourceLatency> latency = DatabaseReadDataSourceLatencyRegistries.find(databaseName, resource).stream().findFirst();
+        if (!latency.isPresent()) {
+            return new LocalDataQueryResultRow(resource, status, "", "");
         }
-        String status = storageNodeDataSource.getStatus().name();
-        return new LocalDataQueryResultRow(resource, status);
+        return new LocalDataQueryResultRow(resource, status, String.format("%.3f", latency.get().getEwmaLatencyMillis()), latency.get().getOutstandingRequests());
     }
     
     @Override
@@ -67,6 +67,8 @@ public final class ConnectionSession {
     
     private final ServerPreparedStatementRegistry serverPreparedStatementRegistry = new ServerPreparedStatementRegistry();
     
+    private final PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache();
+    
     private final ConnectionContext connectionContext;
     
     private final RequiredSessionVariableRecorder requiredSessionVariableRecorder = new RequiredSessionVariableRecorder();
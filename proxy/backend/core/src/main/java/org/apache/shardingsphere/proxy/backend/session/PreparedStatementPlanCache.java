@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Plan cache of server prepared statements.
+ * 
+ * <p>Route context and execution units are cached by SQL statement context of prepared statement and parameters,
+ * and reused by following executions with same parameters until database or its meta data version is changed.</p>
+ */
+public final class PreparedStatementPlanCache {
+    
+    private final Map<PlanKey, Plan> plans = new LinkedHashMap<>(16, 0.75F, true);
+    
+    /**
+     * Get cached execution context.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @return cached execution context
+     */
+    public synchronized Optional<ExecutionContext> get(final QueryContext queryContext, final ShardingSphereDatabase database) {
+        PlanKey key = new PlanKey(queryContext.getSqlStatementContext(), queryContext.getParameters());
+        Plan plan = plans.get(key);
+        if (null == plan) {
+            return Optional.empty();
+        }
+        if (database != plan.database || database.getMetaDataVersion() != plan.metaDataVersion) {
+            plans.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(new ExecutionContext(queryContext, plan.executionUnits, plan.routeContext));
+    }
+    
+    /**
+     * Put execution context into cache.
+     *
+     * @param executionContext execution context
+     * @param database database
+     * @param metaDataVersion meta data version of database when execution context generated
+     * @param maxSize max size of cache
+     */
+    public synchronized void put(final ExecutionContext executionContext, final ShardingSphereDatabase database, final long metaDataVersion, final int maxSize) {
+        QueryContext queryContext = executionContext.getQueryContext();
+        plans.put(new PlanKey(queryContext.getSqlStatementContext(), queryContext.getParameters()),
+                new Plan(database, metaDataVersion, executionContext.getExecutionUnits(), executionContext.getRouteContext()));
+        Iterator<PlanKey> keys = plans.keySet().iterator();
+        while (plans.size() > maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+    
+    private static final class PlanKey {
+        
+        private final SQLStatementContext sqlStatementContext;
+        
+        private final List<Object> params;
+        
+        private PlanKey(final SQLStatementContext sqlStatementContext, final List<Object> params) {
+            this.sqlStatementContext = sqlStatementContext;
+            this.params = new ArrayList<>(params);
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof PlanKey && sqlStatementContext == ((PlanKey) obj).sqlStatementContext && params.equals(((PlanKey) obj).params);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sqlStatementContext) + params.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Plan {
+        
+        private final ShardingSphereDatabase database;
+        
+        private final long metaDataVersion;
+        
+        private final Collection<ExecutionUnit> executionUnits;
+        
+        private final RouteContext routeContext;
+    }
+}
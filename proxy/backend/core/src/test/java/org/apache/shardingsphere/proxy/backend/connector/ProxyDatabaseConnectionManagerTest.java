@@ -226,6 +226,22 @@ class ProxyDatabaseConnectionManagerTest {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    void assertGetConnectionsAndReplayMultipleSessionVariablesInBatch() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key1", "value1");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key2", "value2");
+        ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        Connection actualConnection = databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        verify(actualConnection.createStatement()).addBatch("SET key1=value1");
+        verify(actualConnection.createStatement()).addBatch("SET key2=value2");
+        verify(actualConnection.createStatement()).executeBatch();
+        verify(actualConnection.createStatement(), never()).execute(anyString());
+    }
+    
     @Test
     void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
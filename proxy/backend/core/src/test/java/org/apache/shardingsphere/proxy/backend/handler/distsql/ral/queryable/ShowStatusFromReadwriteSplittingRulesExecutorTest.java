@@ -64,10 +64,12 @@ class ShowStatusFromReadwriteSplittingRulesExecutorTest {
     void assertGetColumns() {
         ShowStatusFromReadwriteSplittingRulesExecutor executor = new ShowStatusFromReadwriteSplittingRulesExecutor();
         Collection<String> columns = executor.getColumnNames();
-        assertThat(columns.size(), is(2));
+        assertThat(columns.size(), is(4));
         Iterator<String> iterator = columns.iterator();
         assertThat(iterator.next(), is("storage_unit"));
         assertThat(iterator.next(), is("status"));
+        assertThat(iterator.next(), is("ewma_latency_milliseconds"));
+        assertThat(iterator.next(), is("outstanding_requests"));
     }
     
     @Test
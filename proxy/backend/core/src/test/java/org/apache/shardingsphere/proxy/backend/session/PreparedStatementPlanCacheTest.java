@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementPlanCacheTest {
+    
+    private final SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+    
+    @Test
+    void assertGetWithSameParameters() {
+        PreparedStatementPlanCache planCache = new PreparedStatementPlanCache();
+        Collection<ExecutionUnit> executionUnits = Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList(1))));
+        RouteContext routeContext = new RouteContext();
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 1), executionUnits, routeContext), database, 0L, 16);
+        QueryContext queryContext = createQueryContext(sqlStatementContext, 1);
+        Optional<ExecutionContext> actual = planCache.get(queryContext, database);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getQueryContext(), is(queryContext));
+        assertThat(actual.get().getExecutionUnits(), is(executionUnits));
+        assertThat(actual.get().getRouteContext(), is(routeContext));
+    }
+    
+    @Test
+    void assertGetWithDifferentParameters() {
+        PreparedStatementPlanCache planCache = new PreparedStatementPlanCache();
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 1), Collections.emptyList(), new RouteContext()), database, 0L, 16);
+        assertFalse(planCache.get(createQueryContext(sqlStatementContext, 2), database).isPresent());
+    }
+    
+    @Test
+    void assertGetWithDifferentStatement() {
+        PreparedStatementPlanCache planCache = new PreparedStatementPlanCache();
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 1), Collections.emptyList(), new RouteContext()), database, 0L, 16);
+        assertFalse(planCache.get(createQueryContext(mock(SQLStatementContext.class), 1), database).isPresent());
+    }
+    
+    @Test
+    void assertGetWithChangedDatabase() {
+        PreparedStatementPlanCache planCache = new PreparedStatementPlanCache();
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 1), Collections.emptyList(), new RouteContext()), database, 0L, 16);
+        assertFalse(planCache.get(createQueryContext(sqlStatementContext, 1), mock(ShardingSphereDatabase.class)).isPresent());
+        assertFalse(planCache.get(createQueryContext(sqlStatementContext, 1), database).isPresent());
+    }
+    
+    @Test
+    void assertGetWithChangedMetaDataVersion() {
+        PreparedStatementPlanCache planCache = new PreparedStatementPlanCache();
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 1), Collections.emptyList(), new RouteContext()), database, 0L, 16);
+        when(database.getMetaDataVersion()).thenReturn(1L);
+        assertFalse(planCache.get(createQueryContext(sqlStatementContext, 1), database).isPresent());
+    }
+    
+    @Test
+    void assertPutWithEvictingEldestPlan() {
+        PreparedStatementPlanCache planCache = new PreparedStatementPlanCache();
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 1), Collections.emptyList(), new RouteContext()), database, 0L, 2);
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 2), Collections.emptyList(), new RouteContext()), database, 0L, 2);
+        assertTrue(planCache.get(createQueryContext(sqlStatementContext, 1), database).isPresent());
+        planCache.put(new ExecutionContext(createQueryContext(sqlStatementContext, 3), Collections.emptyList(), new RouteContext()), database, 0L, 2);
+        assertTrue(planCache.get(createQueryContext(sqlStatementContext, 1), database).isPresent());
+        assertFalse(planCache.get(createQueryContext(sqlStatementContext, 2), database).isPresent());
+        assertTrue(planCache.get(createQueryContext(sqlStatementContext, 3), database).isPresent());
+    }
+    
+    private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final Object param) {
+        return new QueryContext(sqlStatementContext, "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(param));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+/**
+ * Query result flush policy.
+ * 
+ * <p>Buffered rows are flushed once their accumulated bytes reach flush bytes threshold, or channel turns unwritable.
+ * The threshold starts small to let client receive first rows soon, doubles after each threshold flush of sustained streaming until max flush bytes,
+ * and halves when client can not keep up. Small results never reach the threshold and are flushed only once when command completed.
+ * Rows whose bytes are unknown before encoding are flushed by rows threshold instead.</p>
+ */
+public final class QueryResultFlushPolicy {
+    
+    private static final int MIN_FLUSH_BYTES = 16 * 1024;
+    
+    private final ChannelHandlerContext context;
+    
+    private final int flushRowsThreshold;
+    
+    private final int maxFlushBytes;
+    
+    private final int minFlushBytes;
+    
+    @Getter
+    private int flushBytesThreshold;
+    
+    private long bufferedBytes;
+    
+    private int unsizedRows;
+    
+    @Getter
+    private int flushCount;
+    
+    public QueryResultFlushPolicy(final ChannelHandlerContext context, final ConfigurationProperties props) {
+        this(context, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_FLUSH_BYTES));
+    }
+    
+    public QueryResultFlushPolicy(final ChannelHandlerContext context, final int flushRowsThreshold, final int maxFlushBytes) {
+        this.context = context;
+        this.flushRowsThreshold = flushRowsThreshold;
+        this.maxFlushBytes = Math.max(maxFlushBytes, 1);
+        minFlushBytes = Math.min(MIN_FLUSH_BYTES, this.maxFlushBytes);
+        flushBytesThreshold = minFlushBytes;
+    }
+    
+    /**
+     * Add buffered row.
+     *
+     * @param rowBytes encoded bytes of row
+     */
+    public void addRow(final int rowBytes) {
+        bufferedBytes += rowBytes;
+    }
+    
+    /**
+     * Add row whose bytes are unknown before encoding.
+     */
+    public void addUnsizedRow() {
+        unsizedRows++;
+    }
+    
+    /**
+     * Judge whether need to flush buffered rows.
+     *
+     * @return need to flush buffered rows or not
+     */
+    public boolean isNeedFlush() {
+        if (0 == bufferedBytes && 0 == unsizedRows) {
+            return false;
+        }
+        return bufferedBytes >= flushBytesThreshold || unsizedRows >= flushRowsThreshold || !context.channel().isWritable();
+    }
+    
+    /**
+     * Flush channel and adjust flush bytes threshold.
+     * 
+     * <p>Buffered rows should be written to channel before flushing.</p>
+     */
+    public void flush() {
+        boolean thresholdReached = bufferedBytes >= flushBytesThreshold;
+        context.flush();
+        flushCount++;
+        bufferedBytes = 0L;
+        unsizedRows = 0;
+        if (!context.channel().isWritable()) {
+            flushBytesThreshold = Math.max(flushBytesThreshold >> 1, minFlushBytes);
+        } else if (thresholdReached) {
+            flushBytesThreshold = (int) Math.min((long) flushBytesThreshold << 1, maxFlushBytes);
+        }
+    }
+    
+    /**
+     * Finish query result, the remaining buffered rows are flushed when command completed.
+     *
+     * @return flush count of query result
+     */
+    public int finish() {
+        bufferedBytes = 0L;
+        unsizedRows = 0;
+        return flushCount;
+    }
+}
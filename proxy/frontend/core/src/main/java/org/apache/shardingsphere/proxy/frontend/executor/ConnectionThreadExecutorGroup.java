@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutors;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +44,8 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -61,7 +65,24 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), newThreadFactory(connectionId));
+    }
+    
+    private ThreadFactory newThreadFactory(final int connectionId) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        if (virtualThreadEnabled) {
+            return VirtualThreadExecutors.newThreadFactory(threadName);
+        }
+        return runnable -> new Thread(runnable, threadName);
+    }
+    
+    /**
+     * Use virtual thread for connections registered later.
+     * 
+     * <p>Each connection still owns one dedicated thread, so that XA transaction framework can process it by current thread.</p>
+     */
+    public void enableVirtualThread() {
+        virtualThreadEnabled = VirtualThreadExecutors.isSupported();
     }
     
     /**
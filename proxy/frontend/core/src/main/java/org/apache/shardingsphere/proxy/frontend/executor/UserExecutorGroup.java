@@ -32,7 +32,7 @@ public final class UserExecutorGroup {
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
     @Getter
-    private final ExecutorService executorService;
+    private volatile ExecutorService executorService;
     
     private UserExecutorGroup() {
         ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
@@ -47,4 +47,15 @@ public final class UserExecutorGroup {
     public static UserExecutorGroup getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Use virtual thread per task to execute commands.
+     * 
+     * <p>It should be invoked before accepting connections, the replaced platform thread pool will be shutdown after its tasks finished.</p>
+     */
+    public synchronized void enableVirtualThread() {
+        ExecutorService previousExecutorService = executorService;
+        executorService = new ExecutorServiceManager(0, NAME_FORMAT, true).getExecutorService();
+        previousExecutorService.shutdown();
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryResultFlushPolicyTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel().isWritable()).thenReturn(true);
+    }
+    
+    @Test
+    void assertNotNeedFlushForSmallResult() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 128, 65536);
+        flushPolicy.addRow(100);
+        flushPolicy.addRow(100);
+        assertFalse(flushPolicy.isNeedFlush());
+        assertThat(flushPolicy.finish(), is(0));
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertNeedFlushWhenBytesThresholdReached() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 128, 65536);
+        flushPolicy.addRow(16383);
+        assertFalse(flushPolicy.isNeedFlush());
+        flushPolicy.addRow(1);
+        assertTrue(flushPolicy.isNeedFlush());
+    }
+    
+    @Test
+    void assertNeedFlushWhenUnsizedRowsThresholdReached() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 2, 65536);
+        flushPolicy.addUnsizedRow();
+        assertFalse(flushPolicy.isNeedFlush());
+        flushPolicy.addUnsizedRow();
+        assertTrue(flushPolicy.isNeedFlush());
+    }
+    
+    @Test
+    void assertNeedFlushWhenChannelUnwritable() {
+        when(context.channel().isWritable()).thenReturn(false);
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 128, 65536);
+        assertFalse(flushPolicy.isNeedFlush());
+        flushPolicy.addRow(1);
+        assertTrue(flushPolicy.isNeedFlush());
+    }
+    
+    @Test
+    void assertFlushGrowsThresholdUnderSustainedStreaming() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 128, 65536);
+        for (int i = 0; i < 4; i++) {
+            flushPolicy.addRow(flushPolicy.getFlushBytesThreshold());
+            assertTrue(flushPolicy.isNeedFlush());
+            flushPolicy.flush();
+        }
+        assertThat(flushPolicy.getFlushBytesThreshold(), is(65536));
+        assertThat(flushPolicy.finish(), is(4));
+        verify(context, times(4)).flush();
+    }
+    
+    @Test
+    void assertFlushShrinksThresholdWhenChannelUnwritable() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 128, 65536);
+        flushPolicy.addRow(16384);
+        flushPolicy.flush();
+        assertThat(flushPolicy.getFlushBytesThreshold(), is(32768));
+        when(context.channel().isWritable()).thenReturn(false);
+        flushPolicy.addRow(1);
+        flushPolicy.flush();
+        assertThat(flushPolicy.getFlushBytesThreshold(), is(16384));
+    }
+    
+    @Test
+    void assertFlushNotGrowThresholdWithoutBytesThresholdReached() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 1, 65536);
+        flushPolicy.addUnsizedRow();
+        flushPolicy.flush();
+        assertThat(flushPolicy.getFlushBytesThreshold(), is(16384));
+    }
+    
+    @Test
+    void assertMaxFlushBytesLessThanMinFlushBytes() {
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, 128, 1024);
+        assertThat(flushPolicy.getFlushBytesThreshold(), is(1024));
+        flushPolicy.addRow(1024);
+        flushPolicy.flush();
+        assertThat(flushPolicy.getFlushBytesThreshold(), is(1024));
+    }
+}
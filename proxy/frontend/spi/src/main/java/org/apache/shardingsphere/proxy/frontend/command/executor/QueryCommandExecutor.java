@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Query command executor.
@@ -48,4 +50,14 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Get query row data, which can be encoded into byte buffer directly without creating database packet.
+     *
+     * @return query row data, empty if query row should be written as database packet
+     * @throws SQLException SQL exception
+     */
+    default Optional<QueryResponseRow> getQueryRowData() throws SQLException {
+        return Optional.empty();
+    }
 }
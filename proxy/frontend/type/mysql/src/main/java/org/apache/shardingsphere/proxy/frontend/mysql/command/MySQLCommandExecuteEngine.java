@@ -23,23 +23,25 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPa
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryResultFlushPolicy;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLTextResultSetRowBatchWriter;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Command execute engine for MySQL.
@@ -74,17 +76,28 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
-        int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
-            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        MySQLTextResultSetRowBatchWriter rowBatchWriter = new MySQLTextResultSetRowBatchWriter(context);
+        try {
+            while (queryCommandExecutor.next()) {
+                Optional<QueryResponseRow> rowData = queryCommandExecutor.getQueryRowData();
+                if (rowData.isPresent()) {
+                    flushPolicy.addRow(rowBatchWriter.write(rowData.get()));
+                } else {
+                    rowBatchWriter.writeBufferedRows();
+                    context.write(queryCommandExecutor.getQueryRowPacket());
+                    flushPolicy.addUnsizedRow();
+                }
+                if (flushPolicy.isNeedFlush()) {
+                    rowBatchWriter.writeBufferedRows();
+                    flushPolicy.flush();
+                    databaseConnectionManager.getResourceLock().doAwait(context);
+                }
             }
+            rowBatchWriter.writeBufferedRows();
+        } finally {
+            rowBatchWriter.release();
+            flushPolicy.finish();
         }
         context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession())));
     }
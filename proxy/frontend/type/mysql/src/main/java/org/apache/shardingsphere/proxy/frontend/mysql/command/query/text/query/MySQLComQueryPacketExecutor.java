@@ -24,13 +24,20 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLCom
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.sql.SQLLiteralParameterizer;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -39,6 +46,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExe
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
@@ -47,6 +55,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -65,12 +75,39 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
-        SQLStatement sqlStatement = parseSQL(packet.getSQL(), databaseType);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
-                : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
+        Optional<QueryContext> parameterizedQueryContext = createParameterizedQueryContext(packet, databaseType);
+        if (parameterizedQueryContext.isPresent()) {
+            connectionSession.setQueryContext(parameterizedQueryContext.get());
+            proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(databaseType, parameterizedQueryContext.get(), connectionSession, false);
+        } else {
+            SQLStatement sqlStatement = parseSQL(packet.getSQL(), databaseType);
+            proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
+                    : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
+        }
         characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
+    private Optional<QueryContext> createParameterizedQueryContext(final MySQLComQueryPacket packet, final DatabaseType databaseType) {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        if (!metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_LITERAL_PARAMETERIZE_ENABLED)) {
+            return Optional.empty();
+        }
+        Optional<ParameterizedSQL> parameterizedSQL = new SQLLiteralParameterizer(databaseType.getType()).parameterize(packet.getSQL());
+        if (!parameterizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        SQLParserRule rule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement sqlStatement;
+        try {
+            sqlStatement = rule.getSQLParserEngine(databaseType.getType()).parse(parameterizedSQL.get().getSql(), true);
+        } catch (final SQLParsingException ignored) {
+            return Optional.empty();
+        }
+        List<Object> params = parameterizedSQL.get().getParameters();
+        SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData(), params, sqlStatement, connectionSession.getDefaultDatabaseName());
+        return Optional.of(new QueryContext(sqlStatementContext, parameterizedSQL.get().getSql(), params, packet.getHintValueContext()));
+    }
+    
     private SQLStatement parseSQL(final String sql, final DatabaseType databaseType) {
         if (SQLUtils.trimComment(sql).isEmpty()) {
             return new EmptyStatement();
@@ -123,6 +160,11 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
     }
     
+    @Override
+    public Optional<QueryResponseRow> getQueryRowData() throws SQLException {
+        return Optional.of(proxyBackendHandler.getRowData());
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacketBatch;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text result set row batch writer for MySQL.
+ * 
+ * <p>Rows are encoded into one pooled byte buffer directly without creating row packets, and the buffered rows are written to channel as one encoded packet batch.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLTextResultSetRowBatchWriter {
+    
+    private static final int PACKET_HEADER_LENGTH = 4;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private final ChannelHandlerContext context;
+    
+    private MySQLTextResultSetRowEncoder rowEncoder;
+    
+    private ByteBuf byteBuf;
+    
+    private MySQLPacketPayload payload;
+    
+    /**
+     * Write query row into buffer.
+     *
+     * @param row query row
+     * @return encoded bytes of row
+     */
+    public int write(final QueryResponseRow row) {
+        List<QueryResponseCell> cells = row.getCells();
+        if (null == rowEncoder) {
+            rowEncoder = new MySQLTextResultSetRowEncoder(getColumnTypes(cells));
+        }
+        if (null == byteBuf) {
+            byteBuf = context.alloc().ioBuffer();
+            payload = new MySQLPacketPayload(byteBuf, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        }
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        int columnIndex = 0;
+        for (QueryResponseCell each : cells) {
+            rowEncoder.encode(payload, columnIndex++, each.getData());
+        }
+        int payloadLength = byteBuf.writerIndex() - headerIndex - PACKET_HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            byteBuf.setMediumLE(headerIndex, payloadLength);
+            return PACKET_HEADER_LENGTH + payloadLength;
+        }
+        byteBuf.writerIndex(headerIndex);
+        writeBufferedRows();
+        context.write(new MySQLTextResultSetRowPacket(row.getData()));
+        return PACKET_HEADER_LENGTH + payloadLength;
+    }
+    
+    private List<Integer> getColumnTypes(final List<QueryResponseCell> cells) {
+        List<Integer> result = new ArrayList<>(cells.size());
+        for (QueryResponseCell each : cells) {
+            result.add(each.getJdbcType());
+        }
+        return result;
+    }
+    
+    /**
+     * Write buffered rows to channel.
+     */
+    public void writeBufferedRows() {
+        if (null == byteBuf) {
+            return;
+        }
+        if (byteBuf.isReadable()) {
+            context.write(new MySQLEncodedPacketBatch(byteBuf));
+        } else {
+            byteBuf.release();
+        }
+        byteBuf = null;
+        payload = null;
+    }
+    
+    /**
+     * Release buffered rows which are not written to channel.
+     */
+    public void release() {
+        if (null == byteBuf) {
+            return;
+        }
+        byteBuf.release();
+        byteBuf = null;
+        payload = null;
+    }
+}
@@ -23,10 +23,16 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MyS
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLLiteralParameterizer;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.logging.rule.LoggingRule;
 import org.apache.shardingsphere.logging.rule.builder.DefaultLoggingRuleConfigurationBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManager;
@@ -35,6 +41,7 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -49,7 +56,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.plugins.MemberAccessor;
@@ -65,8 +75,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,6 +105,8 @@ class MySQLComQueryPacketExecutorTest {
     void setUp() {
         when(packet.getSQL()).thenReturn("");
         when(connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get()).thenReturn(MySQLCharacterSet.UTF8MB4_GENERAL_CI);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_LITERAL_PARAMETERIZE_ENABLED))
+                .thenReturn(false);
     }
     
     @Test
@@ -140,7 +159,9 @@ class MySQLComQueryPacketExecutorTest {
                         new LoggingRule(new DefaultLoggingRuleConfigurationBuilder().build())));
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(result.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(result.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(result.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
+        when(result.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_LITERAL_PARAMETERIZE_ENABLED)).thenReturn(false);
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(database.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Collections.emptyList()));
         when(result.getMetaData().getDatabase("foo_db")).thenReturn(database);
@@ -148,6 +169,40 @@ class MySQLComQueryPacketExecutorTest {
         
     }
     
+    @Test
+    void assertNewInstanceWithLiteralParameterizeEnabled() throws SQLException {
+        when(packet.getSQL()).thenReturn("SELECT name FROM t_order WHERE order_id = 1");
+        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        when(metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_LITERAL_PARAMETERIZE_ENABLED)).thenReturn(true);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts()).thenReturn(metaDataContexts);
+        try (
+                MockedStatic<SQLStatementContextFactory> sqlStatementContextFactory = mockStatic(SQLStatementContextFactory.class);
+                MockedStatic<ProxyBackendHandlerFactory> proxyBackendHandlerFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            sqlStatementContextFactory.when(() -> SQLStatementContextFactory.newInstance(any(ShardingSphereMetaData.class), anyList(), any(SQLStatement.class), any())).thenReturn(mock(SQLStatementContext.class));
+            proxyBackendHandlerFactory.when(() -> ProxyBackendHandlerFactory.newInstance(any(DatabaseType.class), any(QueryContext.class), eq(connectionSession), eq(false))).thenReturn(proxyBackendHandler);
+            new MySQLComQueryPacketExecutor(packet, connectionSession);
+        }
+        ArgumentCaptor<QueryContext> queryContext = ArgumentCaptor.forClass(QueryContext.class);
+        verify(connectionSession).setQueryContext(queryContext.capture());
+        assertThat(queryContext.getValue().getSql(), is("SELECT name FROM t_order WHERE order_id = ?"));
+        assertThat(queryContext.getValue().getParameters(), is(Collections.singletonList(1)));
+    }
+    
+    @Test
+    void assertNewInstanceWithLiteralParameterizeDisabled() throws SQLException {
+        when(packet.getSQL()).thenReturn("SELECT name FROM t_order WHERE order_id = 1");
+        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts()).thenReturn(metaDataContexts);
+        try (
+                MockedConstruction<SQLLiteralParameterizer> parameterizers = mockConstruction(SQLLiteralParameterizer.class);
+                MockedStatic<ProxyBackendHandlerFactory> proxyBackendHandlerFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            proxyBackendHandlerFactory.when(() -> ProxyBackendHandlerFactory.newInstance(any(DatabaseType.class), anyString(), any(SQLStatement.class), eq(connectionSession), any())).thenReturn(proxyBackendHandler);
+            new MySQLComQueryPacketExecutor(packet, connectionSession);
+            assertTrue(parameterizers.constructed().isEmpty());
+        }
+        verify(connectionSession, never()).setQueryContext(any());
+    }
+    
     @Test
     void assertNext() throws SQLException, NoSuchFieldException, IllegalAccessException {
         MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacketBatch;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLTextResultSetRowBatchWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+    }
+    
+    @Test
+    void assertWriteBufferedRows() {
+        MySQLTextResultSetRowBatchWriter writer = new MySQLTextResultSetRowBatchWriter(context);
+        assertThat(writer.write(new QueryResponseRow(Arrays.asList(new QueryResponseCell(Types.BIGINT, 10L), new QueryResponseCell(Types.VARCHAR, "foo")))), is(11));
+        assertThat(writer.write(new QueryResponseRow(Arrays.asList(new QueryResponseCell(Types.BIGINT, null), new QueryResponseCell(Types.VARCHAR, "")))), is(6));
+        writer.writeBufferedRows();
+        ArgumentCaptor<MySQLEncodedPacketBatch> captor = ArgumentCaptor.forClass(MySQLEncodedPacketBatch.class);
+        verify(context).write(captor.capture());
+        ByteBuf actual = captor.getValue().getEncodedPackets();
+        assertThat(actual.readableBytes(), is(17));
+        assertThat(actual.getUnsignedMediumLE(0), is(7));
+        assertThat(actual.getByte(4), is((byte) 2));
+        assertThat(actual.toString(5, 2, StandardCharsets.UTF_8), is("10"));
+        assertThat(actual.getByte(7), is((byte) 3));
+        assertThat(actual.toString(8, 3, StandardCharsets.UTF_8), is("foo"));
+        assertThat(actual.getUnsignedMediumLE(11), is(2));
+        assertThat(actual.getUnsignedByte(15), is((short) 0xfb));
+        assertThat(actual.getByte(16), is((byte) 0));
+        actual.release();
+    }
+    
+    @Test
+    void assertRelease() {
+        MySQLTextResultSetRowBatchWriter writer = new MySQLTextResultSetRowBatchWriter(context);
+        writer.write(new QueryResponseRow(Arrays.asList(new QueryResponseCell(Types.BIGINT, 10L), new QueryResponseCell(Types.VARCHAR, "foo"))));
+        writer.release();
+        writer.writeBufferedRows();
+        verify(context, never()).write(any());
+    }
+}
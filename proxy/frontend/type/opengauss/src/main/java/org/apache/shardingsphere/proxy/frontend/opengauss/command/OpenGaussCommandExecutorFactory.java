@@ -103,8 +103,13 @@ public final class OpenGaussCommandExecutorFactory {
             result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
         result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(batchPacketBeginIndex, batchPacketEndIndex + 1)));
-        for (int i = batchPacketEndIndex + 1; i < packets.size(); i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
+        List<PostgreSQLCommandPacket> restPackets = packets.subList(batchPacketEndIndex + 1, packets.size());
+        PostgreSQLAggregatedCommandPacket restAggregatedCommandPacket = new PostgreSQLAggregatedCommandPacket(restPackets);
+        if (restAggregatedCommandPacket.isContainsBatchedStatements()) {
+            result.addAll(getExecutorsOfAggregatedBatchedStatements(restAggregatedCommandPacket, connectionSession, portalContext));
+            return result;
+        }
+        for (PostgreSQLCommandPacket each : restPackets) {
             result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
         return result;
@@ -27,18 +27,22 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDonePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
-import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryResultFlushPolicy;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyToStdoutExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.PostgreSQLDataRowBatchWriter;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrPacketFactory;
 
 import java.sql.SQLException;
@@ -93,7 +97,10 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
             return;
         }
         long dataRows = writeDataPackets(context, databaseConnectionManager, queryExecutor);
-        if (ResponseType.QUERY == queryExecutor.getResponseType()) {
+        if (queryExecutor instanceof PostgreSQLComCopyToStdoutExecutor) {
+            context.write(PostgreSQLCopyDonePacket.getInstance());
+            context.write(new PostgreSQLCommandCompletePacket("COPY", ((PostgreSQLComCopyToStdoutExecutor) queryExecutor).getCopiedRows()));
+        } else if (ResponseType.QUERY == queryExecutor.getResponseType()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
         }
         context.write(databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
@@ -103,21 +110,33 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            flushCount++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
-            DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
-                dataRows++;
+        QueryResultFlushPolicy flushPolicy = new QueryResultFlushPolicy(context, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+        PostgreSQLDataRowBatchWriter dataRowBatchWriter = new PostgreSQLDataRowBatchWriter(context);
+        try {
+            while (queryCommandExecutor.next()) {
+                Optional<QueryResponseRow> rowData = queryCommandExecutor.getQueryRowData();
+                if (rowData.isPresent()) {
+                    flushPolicy.addRow(dataRowBatchWriter.write(rowData.get()));
+                    dataRows++;
+                } else {
+                    dataRowBatchWriter.writeBufferedRows();
+                    DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
+                    context.write(resultValue);
+                    flushPolicy.addUnsizedRow();
+                    if (resultValue instanceof PostgreSQLDataRowPacket) {
+                        dataRows++;
+                    }
+                }
+                if (flushPolicy.isNeedFlush()) {
+                    dataRowBatchWriter.writeBufferedRows();
+                    flushPolicy.flush();
+                    databaseConnectionManager.getResourceLock().doAwait(context);
+                }
             }
+            dataRowBatchWriter.writeBufferedRows();
+        } finally {
+            dataRowBatchWriter.release();
+            flushPolicy.finish();
         }
         return dataRows;
     }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Command copy to stdout executor for PostgreSQL.
+ * 
+ * <p>Actual data nodes are copied out one after another, copy data is streamed to client without being buffered.</p>
+ */
+public final class PostgreSQLComCopyToStdoutExecutor implements QueryCommandExecutor {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyRouteEngine routeEngine;
+    
+    private final PostgreSQLCopyOptions options;
+    
+    @Getter
+    private volatile ResponseType responseType;
+    
+    @Getter
+    private long copiedRows;
+    
+    private Iterator<PostgreSQLCopyTarget> targets;
+    
+    private CopyOut currentCopyOut;
+    
+    private boolean firstTarget = true;
+    
+    private byte[] currentData;
+    
+    public PostgreSQLComCopyToStdoutExecutor(final ConnectionSession connectionSession, final PostgreSQLCopyRouteEngine routeEngine, final PostgreSQLCopyOptions options) {
+        this.connectionSession = connectionSession;
+        this.routeEngine = routeEngine;
+        this.options = options;
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        ShardingSpherePreconditions.checkState(!options.isBinary(), () -> new UnsupportedSQLOperationException("COPY TO STDOUT with binary format"));
+        targets = routeEngine.route().iterator();
+        responseType = ResponseType.QUERY;
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(false, routeEngine.getColumnNames().size()));
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (null != currentCopyOut || targets.hasNext()) {
+            if (null == currentCopyOut) {
+                currentCopyOut = startCopyOut(targets.next());
+            }
+            currentData = currentCopyOut.readFromCopy();
+            if (null != currentData) {
+                return true;
+            }
+            copiedRows += currentCopyOut.getHandledRowCount();
+            currentCopyOut = null;
+            firstTarget = false;
+        }
+        return false;
+    }
+    
+    private CopyOut startCopyOut(final PostgreSQLCopyTarget target) throws SQLException {
+        Connection connection = connectionSession.getDatabaseConnectionManager().getConnections(target.getDataSourceName(), 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        CopyOut result = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(routeEngine.getActualSQL(target));
+        if (!firstTarget && options.isCsv() && options.isHeader()) {
+            result.readFromCopy();
+        }
+        return result;
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentData);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != currentCopyOut && currentCopyOut.isActive()) {
+            currentCopyOut.cancelCopy();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Copy executor factory for PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyExecutorFactory {
+    
+    private static final Pattern STDIO_PATTERN = Pattern.compile("^\\s*\\)?\\s*(FROM|TO)\\s+(STDIN|STDOUT)\\b(.*)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    /**
+     * Create new instance of copy executor if SQL is a copy statement from stdin or to stdout of table.
+     *
+     * @param sql SQL
+     * @param connectionSession connection session
+     * @return created instance
+     */
+    public static Optional<CommandExecutor> newInstance(final String sql, final ConnectionSession connectionSession) {
+        if (!SQLUtils.trimComment(sql).regionMatches(true, 0, "COPY", 0, 4) || null == connectionSession.getDatabaseName()) {
+            return Optional.empty();
+        }
+        SQLParserRule sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL").getType()).parse(sql, false);
+        if (!(sqlStatement instanceof PostgreSQLCopyStatement) || null == ((PostgreSQLCopyStatement) sqlStatement).getTableSegment()) {
+            return Optional.empty();
+        }
+        PostgreSQLCopyStatement copyStatement = (PostgreSQLCopyStatement) sqlStatement;
+        Matcher matcher = STDIO_PATTERN.matcher(sql.substring(getTargetStopIndex(copyStatement) + 1));
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        PostgreSQLCopyOptions options = PostgreSQLCopyOptions.parse(matcher.group(3));
+        boolean copyIn = "FROM".equalsIgnoreCase(matcher.group(1));
+        PostgreSQLCopyRouteEngine routeEngine = new PostgreSQLCopyRouteEngine(connectionSession, sql, copyStatement, copyIn);
+        return Optional.of(copyIn ? new PostgreSQLComCopyFromStdinExecutor(connectionSession, routeEngine, options) : new PostgreSQLComCopyToStdoutExecutor(connectionSession, routeEngine, options));
+    }
+    
+    private static int getTargetStopIndex(final PostgreSQLCopyStatement copyStatement) {
+        int result = copyStatement.getTableSegment().getStopIndex();
+        for (ColumnSegment each : copyStatement.getColumns()) {
+            result = Math.max(result, each.getStopIndex());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * PostgreSQL copy in session.
+ * 
+ * <p>Rows are routed one by one, and one connection is used for each data source. Actual tables of the same data source are copied one after another:
+ * rows of the table being copied are streamed with a buffer of fixed size, rows of other tables are held back until they are enough to switch copy to their table.</p>
+ * 
+ * <p>Without a held transaction, copy runs in a local transaction of each data source, and all of them are committed only after copy of every data source completed.
+ * Same as other local transactions, commit is not atomic across data sources, a failure during commit keeps the data sources committed before it.</p>
+ * 
+ * <p>Once failed, the session rolls back and drops the remaining copy data, until copy done or copy fail of client ends the copy.</p>
+ */
+@Slf4j
+public final class PostgreSQLCopyInSession {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int SWITCH_TARGET_SIZE = 1024 * 1024;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLCopyRouteEngine routeEngine;
+    
+    private final PostgreSQLCopyRowParser rowParser;
+    
+    private final boolean connectionHeld;
+    
+    private final Map<String, DataSourceCopyIn> dataSourceCopyIns = new LinkedHashMap<>();
+    
+    private final Collection<Connection> ownedConnections = new LinkedList<>();
+    
+    @Getter
+    private boolean failed;
+    
+    public PostgreSQLCopyInSession(final ConnectionSession connectionSession, final PostgreSQLCopyRouteEngine routeEngine, final PostgreSQLCopyRowParser rowParser) {
+        this.connectionSession = connectionSession;
+        this.routeEngine = routeEngine;
+        this.rowParser = rowParser;
+        connectionSession.getDatabaseConnectionManager().handleAutoCommit();
+        connectionHeld = connectionSession.getTransactionStatus().isInConnectionHeldTransaction();
+    }
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        if (failed) {
+            return;
+        }
+        try {
+            for (PostgreSQLCopyRow each : rowParser.parse(data)) {
+                writeRow(each);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel();
+            throw ex;
+        }
+    }
+    
+    private void writeRow(final PostgreSQLCopyRow row) throws SQLException {
+        for (PostgreSQLCopyTarget each : routeEngine.route(row.getValues())) {
+            DataSourceCopyIn dataSourceCopyIn = dataSourceCopyIns.get(each.getDataSourceName());
+            if (null == dataSourceCopyIn) {
+                dataSourceCopyIn = new DataSourceCopyIn(getConnection(each.getDataSourceName()));
+                dataSourceCopyIns.put(each.getDataSourceName(), dataSourceCopyIn);
+            }
+            dataSourceCopyIn.write(each, row.getData());
+        }
+    }
+    
+    private Connection getConnection(final String dataSourceName) throws SQLException {
+        if (connectionHeld) {
+            return connectionSession.getDatabaseConnectionManager().getConnections(dataSourceName, 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        }
+        Connection result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName(), dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        ownedConnections.add(result);
+        result.setAutoCommit(false);
+        return result;
+    }
+    
+    /**
+     * Complete copy in.
+     *
+     * @return copied rows
+     * @throws SQLException SQL exception
+     */
+    public long complete() throws SQLException {
+        try {
+            for (PostgreSQLCopyRow each : rowParser.finish()) {
+                writeRow(each);
+            }
+            long result = 0L;
+            for (DataSourceCopyIn each : dataSourceCopyIns.values()) {
+                result += each.end();
+            }
+            for (Connection each : ownedConnections) {
+                each.commit();
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel();
+            throw ex;
+        } finally {
+            closeConnections();
+        }
+    }
+    
+    /**
+     * Cancel copy in.
+     */
+    public void cancel() {
+        if (failed) {
+            return;
+        }
+        failed = true;
+        for (DataSourceCopyIn each : dataSourceCopyIns.values()) {
+            try {
+                each.cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel copy in failed.", ex);
+            }
+        }
+        for (Connection each : ownedConnections) {
+            try {
+                each.rollback();
+            } catch (final SQLException ex) {
+                log.warn("Rollback copy in failed.", ex);
+            }
+        }
+        closeConnections();
+    }
+    
+    private void closeConnections() {
+        for (Connection each : ownedConnections) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("Close connection of copy in failed.", ex);
+            }
+        }
+        ownedConnections.clear();
+    }
+    
+    private final class DataSourceCopyIn {
+        
+        private final Connection connection;
+        
+        private final Map<PostgreSQLCopyTarget, ByteArrayOutputStream> pendingData = new LinkedHashMap<>();
+        
+        private PostgreSQLCopyTarget currentTarget;
+        
+        private CopyInStream currentCopyIn;
+        
+        private long copiedRows;
+        
+        private DataSourceCopyIn(final Connection connection) {
+            this.connection = connection;
+        }
+        
+        private void write(final PostgreSQLCopyTarget target, final byte[] data) throws SQLException {
+            if (target.equals(currentTarget)) {
+                currentCopyIn.write(data);
+                return;
+            }
+            ByteArrayOutputStream pending = pendingData.computeIfAbsent(target, unused -> new ByteArrayOutputStream());
+            pending.write(data, 0, data.length);
+            if (null == currentTarget || pending.size() >= SWITCH_TARGET_SIZE) {
+                switchTarget(target);
+            }
+        }
+        
+        private void switchTarget(final PostgreSQLCopyTarget target) throws SQLException {
+            endCurrentTarget();
+            currentCopyIn = new CopyInStream(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(routeEngine.getActualSQL(target)));
+            currentTarget = target;
+            if (null != rowParser.getHeader()) {
+                currentCopyIn.write(rowParser.getHeader());
+            }
+            ByteArrayOutputStream pending = pendingData.remove(target);
+            if (null != pending) {
+                currentCopyIn.write(pending.toByteArray());
+            }
+        }
+        
+        private void endCurrentTarget() throws SQLException {
+            if (null != currentCopyIn) {
+                copiedRows += currentCopyIn.end();
+                currentCopyIn = null;
+                currentTarget = null;
+            }
+        }
+        
+        private long end() throws SQLException {
+            while (!pendingData.isEmpty()) {
+                switchTarget(pendingData.keySet().iterator().next());
+            }
+            endCurrentTarget();
+            return copiedRows;
+        }
+        
+        private void cancel() throws SQLException {
+            if (null != currentCopyIn) {
+                currentCopyIn.cancel();
+            }
+        }
+    }
+    
+    private static final class CopyInStream {
+        
+        private final CopyIn copyIn;
+        
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        
+        private int length;
+        
+        private CopyInStream(final CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+        
+        private void write(final byte[] data) throws SQLException {
+            if (length + data.length > buffer.length) {
+                flush();
+            }
+            if (data.length >= buffer.length) {
+                copyIn.writeToCopy(data, 0, data.length);
+                return;
+            }
+            System.arraycopy(data, 0, buffer, length, data.length);
+            length += data.length;
+        }
+        
+        private void flush() throws SQLException {
+            if (length > 0) {
+                copyIn.writeToCopy(buffer, 0, length);
+                length = 0;
+            }
+        }
+        
+        private long end() throws SQLException {
+            flush();
+            return copyIn.endCopy();
+        }
+        
+        private void cancel() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Options of PostgreSQL copy statement.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyOptions {
+    
+    private final boolean csv;
+    
+    private final boolean binary;
+    
+    private final char delimiter;
+    
+    private final String nullString;
+    
+    private final char quote;
+    
+    private final char escape;
+    
+    private final boolean header;
+    
+    /**
+     * Parse copy options.
+     *
+     * @param optionsText options text after {@code STDIN} or {@code STDOUT}
+     * @return copy options
+     */
+    public static PostgreSQLCopyOptions parse(final String optionsText) {
+        String format = "text";
+        String delimiter = null;
+        String nullString = null;
+        String quote = null;
+        String escape = null;
+        boolean header = false;
+        for (String each : splitOptions(optionsText)) {
+            int separatorIndex = indexOfWhitespace(each);
+            String name = (-1 == separatorIndex ? each : each.substring(0, separatorIndex)).toUpperCase(Locale.ENGLISH);
+            String value = -1 == separatorIndex ? "" : unquote(each.substring(separatorIndex).trim());
+            switch (name) {
+                case "FORMAT":
+                    format = value.toLowerCase(Locale.ENGLISH);
+                    break;
+                case "DELIMITER":
+                    delimiter = value;
+                    break;
+                case "NULL":
+                    nullString = value;
+                    break;
+                case "QUOTE":
+                    quote = value;
+                    break;
+                case "ESCAPE":
+                    escape = value;
+                    break;
+                case "HEADER":
+                    header = value.isEmpty() || "true".equalsIgnoreCase(value) || "on".equalsIgnoreCase(value) || "1".equals(value);
+                    break;
+                default:
+                    break;
+            }
+        }
+        boolean csv = "csv".equals(format);
+        char quoteChar = null == quote || quote.isEmpty() ? '"' : quote.charAt(0);
+        return new PostgreSQLCopyOptions(csv, "binary".equals(format), null == delimiter || delimiter.isEmpty() ? (csv ? ',' : '\t') : delimiter.charAt(0),
+                null == nullString ? (csv ? "" : "\\N") : nullString, quoteChar, null == escape || escape.isEmpty() ? quoteChar : escape.charAt(0), header);
+    }
+    
+    private static List<String> splitOptions(final String optionsText) {
+        List<String> result = new LinkedList<>();
+        int beginIndex = optionsText.indexOf('(');
+        if (-1 == beginIndex) {
+            return splitLegacyOptions(optionsText);
+        }
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = beginIndex + 1; i < optionsText.length(); i++) {
+            char each = optionsText.charAt(i);
+            if ('\'' == each) {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (',' == each || ')' == each)) {
+                addOption(result, current);
+                if (')' == each) {
+                    break;
+                }
+                continue;
+            }
+            current.append(each);
+        }
+        return result;
+    }
+    
+    private static List<String> splitLegacyOptions(final String optionsText) {
+        List<String> result = new LinkedList<>();
+        List<String> tokens = splitTokens(optionsText);
+        for (int i = 0; i < tokens.size(); i++) {
+            String each = tokens.get(i).toUpperCase(Locale.ENGLISH);
+            switch (each) {
+                case "CSV":
+                case "BINARY":
+                    result.add("FORMAT " + each);
+                    break;
+                case "HEADER":
+                    result.add(each);
+                    break;
+                case "DELIMITER":
+                case "NULL":
+                case "QUOTE":
+                case "ESCAPE":
+                    if (i + 1 < tokens.size() && "AS".equalsIgnoreCase(tokens.get(i + 1))) {
+                        i++;
+                    }
+                    if (i + 1 < tokens.size()) {
+                        result.add(each + " " + tokens.get(++i));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return result;
+    }
+    
+    private static List<String> splitTokens(final String optionsText) {
+        List<String> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < optionsText.length(); i++) {
+            char each = optionsText.charAt(i);
+            if ('\'' == each) {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (Character.isWhitespace(each) || ';' == each)) {
+                addOption(result, current);
+                continue;
+            }
+            current.append(each);
+        }
+        addOption(result, current);
+        return result;
+    }
+    
+    private static void addOption(final List<String> options, final StringBuilder option) {
+        String value = option.toString().trim();
+        if (!value.isEmpty()) {
+            options.add(value);
+        }
+        option.setLength(0);
+    }
+    
+    private static int indexOfWhitespace(final String option) {
+        for (int i = 0; i < option.length(); i++) {
+            if (Character.isWhitespace(option.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static String unquote(final String value) {
+        if (value.length() > 2 && ('E' == value.charAt(0) || 'e' == value.charAt(0)) && '\'' == value.charAt(1) && value.endsWith("'")) {
+            return unescape(value.substring(2, value.length() - 1).replace("''", "'"));
+        }
+        if (value.length() >= 2 && '\'' == value.charAt(0) && value.endsWith("'")) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+        return value;
+    }
+    
+    private static String unescape(final String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' != each || i + 1 == value.length()) {
+                result.append(each);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            switch (escaped) {
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                default:
+                    result.append(escaped);
+                    break;
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.dialect.postgresql.exception.metadata.ColumnNotFoundException;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.mask.rule.MaskRule;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Route engine for PostgreSQL copy.
+ * 
+ * <p>Copy statement is routed as an equivalent insert statement for copy in or select statement for copy out,
+ * the statement is parsed and bound once, and only the parameters change for each row of copy in.
+ * Copy data is streamed to actual tables without rewriting, so tables with encrypt or mask rules, and copy in without key generate column, are rejected.</p>
+ */
+public final class PostgreSQLCopyRouteEngine {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final String sql;
+    
+    private final SimpleTableSegment tableSegment;
+    
+    @Getter
+    private final List<String> columnNames;
+    
+    private final int[] columnTypes;
+    
+    private final String routeSQL;
+    
+    private final SQLStatementContext sqlStatementContext;
+    
+    private final SQLRouteEngine sqlRouteEngine;
+    
+    public PostgreSQLCopyRouteEngine(final ConnectionSession connectionSession, final String sql, final PostgreSQLCopyStatement sqlStatement, final boolean copyIn) {
+        this.connectionSession = connectionSession;
+        metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        database = metaData.getDatabase(connectionSession.getDatabaseName());
+        this.sql = sql;
+        tableSegment = sqlStatement.getTableSegment();
+        ShardingSphereTable table = getTable();
+        columnNames = sqlStatement.getColumns().isEmpty() ? new ArrayList<>(table.getVisibleColumns())
+                : sqlStatement.getColumns().stream().map(each -> each.getIdentifier().getValue()).collect(Collectors.toList());
+        checkRewriteRules(copyIn);
+        columnTypes = getColumnTypes(table);
+        String tableText = sql.substring(tableSegment.getStartIndex(), tableSegment.getStopIndex() + 1);
+        routeSQL = copyIn ? createInsertSQL(tableText) : "SELECT * FROM " + tableText;
+        SQLStatement routeStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType().getType()).parse(routeSQL, false);
+        sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, Collections.emptyList(), routeStatement, connectionSession.getDatabaseName());
+        sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps());
+    }
+    
+    private ShardingSphereTable getTable() {
+        String logicTableName = tableSegment.getTableName().getIdentifier().getValue();
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue())
+                .orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), connectionSession.getDatabaseName()));
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        ShardingSphereTable result = null == schema ? null : schema.getTable(logicTableName);
+        ShardingSpherePreconditions.checkState(null != result, () -> new NoSuchTableException(logicTableName));
+        return result;
+    }
+    
+    private void checkRewriteRules(final boolean copyIn) {
+        String logicTableName = tableSegment.getTableName().getIdentifier().getValue();
+        ShardingSphereRuleMetaData ruleMetaData = database.getRuleMetaData();
+        ShardingSpherePreconditions.checkState(!ruleMetaData.findSingleRule(EncryptRule.class).filter(optional -> optional.findEncryptTable(logicTableName).isPresent()).isPresent(),
+                () -> new UnsupportedSQLOperationException(String.format("COPY on table `%s` with encrypt rule", logicTableName)));
+        ShardingSpherePreconditions.checkState(!ruleMetaData.findSingleRule(MaskRule.class).filter(optional -> optional.getLogicTableMapper().contains(logicTableName)).isPresent(),
+                () -> new UnsupportedSQLOperationException(String.format("COPY on table `%s` with mask rule", logicTableName)));
+        if (!copyIn) {
+            return;
+        }
+        Optional<String> generateKeyColumnName = ruleMetaData.findSingleRule(ShardingRule.class).flatMap(optional -> optional.findGenerateKeyColumnName(logicTableName));
+        ShardingSpherePreconditions.checkState(!generateKeyColumnName.isPresent() || columnNames.stream().anyMatch(each -> each.equalsIgnoreCase(generateKeyColumnName.get())),
+                () -> new UnsupportedSQLOperationException(String.format("COPY FROM on table `%s` without key generate column `%s`", logicTableName, generateKeyColumnName.get())));
+    }
+    
+    private int[] getColumnTypes(final ShardingSphereTable table) {
+        int[] result = new int[columnNames.size()];
+        for (int i = 0; i < result.length; i++) {
+            String columnName = columnNames.get(i);
+            ShardingSphereColumn column = table.getColumn(columnName);
+            ShardingSpherePreconditions.checkState(null != column, () -> new ColumnNotFoundException(table.getName(), columnName));
+            result[i] = column.getDataType();
+        }
+        return result;
+    }
+    
+    private String createInsertSQL(final String tableText) {
+        StringBuilder result = new StringBuilder("INSERT INTO ").append(tableText).append(" (").append(String.join(", ", columnNames)).append(") VALUES (");
+        for (int i = 0; i < columnNames.size(); i++) {
+            result.append(0 == i ? "?" : ", ?");
+        }
+        return result.append(')').toString();
+    }
+    
+    /**
+     * Route copy in row.
+     *
+     * @param values values of row
+     * @return copy targets
+     */
+    public Collection<PostgreSQLCopyTarget> route(final List<String> values) {
+        List<Object> params = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            params.add(i < columnTypes.length ? convertValue(values.get(i), columnTypes[i]) : values.get(i));
+        }
+        if (sqlStatementContext instanceof ParameterAware) {
+            ((ParameterAware) sqlStatementContext).setUpParameters(params);
+        }
+        return route(params);
+    }
+    
+    /**
+     * Route copy out.
+     *
+     * @return copy targets
+     */
+    public Collection<PostgreSQLCopyTarget> route() {
+        return route(Collections.emptyList());
+    }
+    
+    private Collection<PostgreSQLCopyTarget> route(final List<Object> params) {
+        RouteContext routeContext = sqlRouteEngine.route(connectionSession.getConnectionContext(), new QueryContext(sqlStatementContext, routeSQL, params), metaData.getGlobalRuleMetaData(), database);
+        String logicTableName = tableSegment.getTableName().getIdentifier().getValue();
+        Collection<PostgreSQLCopyTarget> result = new LinkedHashSet<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<String> actualTableNames = each.getActualTableNames(logicTableName);
+            if (actualTableNames.isEmpty()) {
+                result.add(new PostgreSQLCopyTarget(each.getDataSourceMapper().getActualName(), logicTableName));
+                continue;
+            }
+            for (String actualTableName : actualTableNames) {
+                result.add(new PostgreSQLCopyTarget(each.getDataSourceMapper().getActualName(), actualTableName));
+            }
+        }
+        return result;
+    }
+    
+    private Object convertValue(final String value, final int columnType) {
+        if (null == value) {
+            return null;
+        }
+        try {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.parseInt(value.trim());
+                case Types.BIGINT:
+                    return Long.parseLong(value.trim());
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value.trim());
+                default:
+                    return value;
+            }
+        } catch (final NumberFormatException ignored) {
+            return value;
+        }
+    }
+    
+    /**
+     * Get actual copy SQL of target.
+     *
+     * @param target copy target
+     * @return actual copy SQL
+     */
+    public String getActualSQL(final PostgreSQLCopyTarget target) {
+        return sql.substring(0, tableSegment.getStartIndex()) + getActualTableText(target.getActualTableName()) + sql.substring(tableSegment.getStopIndex() + 1);
+    }
+    
+    private String getActualTableText(final String actualTableName) {
+        String tableName = tableSegment.getTableName().getIdentifier().getQuoteCharacter().wrap(actualTableName);
+        return tableSegment.getOwner().map(optional -> sql.substring(optional.getStartIndex(), optional.getStopIndex() + 1) + "." + tableName).orElse(tableName);
+    }
+}
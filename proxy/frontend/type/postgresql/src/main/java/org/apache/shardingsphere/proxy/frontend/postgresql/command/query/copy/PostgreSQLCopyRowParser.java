@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Incremental row parser of PostgreSQL copy data in text or CSV format.
+ * 
+ * <p>Copy data messages are not aligned with rows, so bytes of an incomplete row are kept until the rest of it arrives.</p>
+ */
+public final class PostgreSQLCopyRowParser {
+    
+    private static final byte LINE_FEED = '\n';
+    
+    private static final byte BACKSLASH = '\\';
+    
+    private static final String END_OF_DATA = "\\.";
+    
+    private final PostgreSQLCopyOptions options;
+    
+    private final Charset charset;
+    
+    private byte[] buffer = new byte[8192];
+    
+    private int length;
+    
+    private int scanIndex;
+    
+    private boolean inQuotes;
+    
+    private boolean endOfData;
+    
+    private boolean headerSkipped;
+    
+    @Getter
+    private byte[] header;
+    
+    public PostgreSQLCopyRowParser(final PostgreSQLCopyOptions options, final Charset charset) {
+        this.options = options;
+        this.charset = charset;
+        headerSkipped = !options.isHeader();
+    }
+    
+    /**
+     * Parse complete rows from copy data, the incomplete tail is kept for the next data.
+     *
+     * @param data copy data
+     * @return complete rows
+     */
+    public List<PostgreSQLCopyRow> parse(final byte[] data) {
+        if (endOfData) {
+            return Collections.emptyList();
+        }
+        append(data);
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        int rowBeginIndex = 0;
+        while (scanIndex < length && !endOfData) {
+            byte each = buffer[scanIndex];
+            if (isEscaping(each)) {
+                if (scanIndex + 1 >= length) {
+                    break;
+                }
+                scanIndex += 2;
+                continue;
+            }
+            if (options.isCsv() && options.getQuote() == each) {
+                inQuotes = !inQuotes;
+            }
+            scanIndex++;
+            if (LINE_FEED == each && !inQuotes) {
+                addRow(result, Arrays.copyOfRange(buffer, rowBeginIndex, scanIndex));
+                rowBeginIndex = scanIndex;
+            }
+        }
+        compact(rowBeginIndex);
+        return result;
+    }
+    
+    private boolean isEscaping(final byte value) {
+        if (options.isCsv()) {
+            return inQuotes && options.getEscape() != options.getQuote() && options.getEscape() == value;
+        }
+        return BACKSLASH == value;
+    }
+    
+    /**
+     * Finish parsing and get the last row which is not terminated by line feed.
+     *
+     * @return last rows
+     */
+    public List<PostgreSQLCopyRow> finish() {
+        if (endOfData || 0 == length) {
+            return Collections.emptyList();
+        }
+        byte[] row = Arrays.copyOf(buffer, length + 1);
+        row[length] = LINE_FEED;
+        length = 0;
+        scanIndex = 0;
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        addRow(result, row);
+        return result;
+    }
+    
+    private void append(final byte[] data) {
+        if (length + data.length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + data.length));
+        }
+        System.arraycopy(data, 0, buffer, length, data.length);
+        length += data.length;
+    }
+    
+    private void compact(final int rowBeginIndex) {
+        if (0 == rowBeginIndex) {
+            return;
+        }
+        System.arraycopy(buffer, rowBeginIndex, buffer, 0, length - rowBeginIndex);
+        length -= rowBeginIndex;
+        scanIndex -= rowBeginIndex;
+    }
+    
+    private void addRow(final List<PostgreSQLCopyRow> rows, final byte[] row) {
+        String line = getLine(row);
+        if (END_OF_DATA.equals(line)) {
+            endOfData = true;
+            return;
+        }
+        if (!headerSkipped) {
+            headerSkipped = true;
+            header = row;
+            return;
+        }
+        rows.add(new PostgreSQLCopyRow(row, options.isCsv() ? splitCSVValues(line) : splitTextValues(line)));
+    }
+    
+    private String getLine(final byte[] row) {
+        int end = row.length - 1;
+        if (end > 0 && '\r' == row[end - 1]) {
+            end--;
+        }
+        return new String(row, 0, end, charset);
+    }
+    
+    private List<String> splitTextValues(final String line) {
+        List<String> result = new ArrayList<>();
+        int valueBeginIndex = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char each = line.charAt(i);
+            if ('\\' == each) {
+                i++;
+            } else if (options.getDelimiter() == each) {
+                result.add(getTextValue(line.substring(valueBeginIndex, i)));
+                valueBeginIndex = i + 1;
+            }
+        }
+        result.add(getTextValue(line.substring(valueBeginIndex)));
+        return result;
+    }
+    
+    private String getTextValue(final String value) {
+        if (options.getNullString().equals(value)) {
+            return null;
+        }
+        if (-1 == value.indexOf('\\')) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' != each || i + 1 == value.length()) {
+                result.append(each);
+                continue;
+            }
+            i = appendEscapedChar(result, value, i + 1);
+        }
+        return result.toString();
+    }
+    
+    private int appendEscapedChar(final StringBuilder builder, final String value, final int index) {
+        char escaped = value.charAt(index);
+        switch (escaped) {
+            case 'b':
+                builder.append('\b');
+                return index;
+            case 'f':
+                builder.append('\f');
+                return index;
+            case 'n':
+                builder.append('\n');
+                return index;
+            case 'r':
+                builder.append('\r');
+                return index;
+            case 't':
+                builder.append('\t');
+                return index;
+            case 'v':
+                builder.append('\u000B');
+                return index;
+            case 'x':
+                return appendNumericChar(builder, value, index + 1, 2, 16, escaped);
+            default:
+                return escaped >= '0' && escaped <= '7' ? appendNumericChar(builder, value, index, 3, 8, escaped) : appendChar(builder, escaped, index);
+        }
+    }
+    
+    private int appendNumericChar(final StringBuilder builder, final String value, final int beginIndex, final int maxDigits, final int radix, final char escaped) {
+        int endIndex = beginIndex;
+        while (endIndex < value.length() && endIndex - beginIndex < maxDigits && Character.digit(value.charAt(endIndex), radix) >= 0) {
+            endIndex++;
+        }
+        if (endIndex == beginIndex) {
+            return appendChar(builder, escaped, beginIndex - 1);
+        }
+        builder.append((char) Integer.parseInt(value.substring(beginIndex, endIndex), radix));
+        return endIndex - 1;
+    }
+    
+    private int appendChar(final StringBuilder builder, final char value, final int index) {
+        builder.append(value);
+        return index;
+    }
+    
+    private List<String> splitCSVValues(final String line) {
+        List<String> result = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotedValue = false;
+        for (int i = 0; i < line.length(); i++) {
+            char each = line.charAt(i);
+            if (inQuotedValue && options.getEscape() == each && i + 1 < line.length() && (options.getQuote() == line.charAt(i + 1) || options.getEscape() == line.charAt(i + 1))) {
+                value.append(line.charAt(++i));
+            } else if (options.getQuote() == each) {
+                inQuotedValue = !inQuotedValue;
+                quoted = true;
+            } else if (!inQuotedValue && options.getDelimiter() == each) {
+                result.add(getCSVValue(value.toString(), quoted));
+                value.setLength(0);
+                quoted = false;
+            } else {
+                value.append(each);
+            }
+        }
+        result.add(getCSVValue(value.toString(), quoted));
+        return result;
+    }
+    
+    private String getCSVValue(final String value, final boolean quoted) {
+        return !quoted && options.getNullString().equals(value) ? null : value;
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -52,8 +53,9 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
         PostgreSQLServerPreparedStatement preparedStatement = getPreparedStatement();
         PostgreSQLBatchedStatementsExecutor executor = new PostgreSQLBatchedStatementsExecutor(connectionSession, preparedStatement, readParameterSets(preparedStatement.getParameterTypes()));
         Collection<DatabasePacket> result = new ArrayList<>(packets.size());
-        int totalInserted = executor.executeBatch();
-        int executePacketCount = executePacketCount();
+        int[] updateCounts = executor.executeBatch();
+        String tag = PostgreSQLCommand.valueOf(preparedStatement.getSqlStatementContext().getSqlStatement().getClass()).orElse(PostgreSQLCommand.INSERT).getTag();
+        int executePacketIndex = 0;
         for (PostgreSQLCommandPacket each : packets) {
             if (each instanceof PostgreSQLComBindPacket) {
                 result.add(PostgreSQLBindCompletePacket.getInstance());
@@ -62,13 +64,17 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
                 result.add(preparedStatement.describeRows().orElseGet(PostgreSQLNoDataPacket::getInstance));
             }
             if (each instanceof PostgreSQLComExecutePacket) {
-                String tag = PostgreSQLCommand.valueOf(preparedStatement.getSqlStatementContext().getSqlStatement().getClass()).orElse(PostgreSQLCommand.INSERT).getTag();
-                result.add(new PostgreSQLCommandCompletePacket(tag, 0 == executePacketCount ? 1 : totalInserted / executePacketCount));
+                result.add(new PostgreSQLCommandCompletePacket(tag, executePacketIndex < updateCounts.length ? getRowCount(updateCounts[executePacketIndex]) : 0));
+                executePacketIndex++;
             }
         }
         return result;
     }
     
+    private int getRowCount(final int updateCount) {
+        return Statement.SUCCESS_NO_INFO == updateCount ? 1 : updateCount;
+    }
+    
     private PostgreSQLServerPreparedStatement getPreparedStatement() {
         PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) packets.get(0);
         return connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
@@ -83,14 +89,4 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
         }
         return result;
     }
-    
-    private int executePacketCount() {
-        int result = 0;
-        for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComExecutePacket) {
-                result++;
-            }
-        }
-        return result;
-    }
 }
@@ -56,6 +56,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -80,6 +81,12 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private final Map<ExecutionUnit, List<List<Object>>> executionUnitParams = new HashMap<>();
     
+    private final Map<ExecutionUnit, List<Integer>> executionUnitParamSetIndexes = new HashMap<>();
+    
+    private final Map<Statement, List<Integer>> statementParamSetIndexes = new IdentityHashMap<>();
+    
+    private final int parameterSetsCount;
+    
     private final ExecutionContext anyExecutionContext;
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
@@ -89,6 +96,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
         this.connectionSession = connectionSession;
         metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         this.preparedStatement = preparedStatement;
+        parameterSetsCount = parameterSets.size();
         Iterator<List<Object>> parameterSetsIterator = parameterSets.iterator();
         SQLStatementContext sqlStatementContext = null;
         ExecutionContext executionContext = null;
@@ -96,9 +104,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
             List<Object> firstGroupOfParam = parameterSetsIterator.next();
             sqlStatementContext = createSQLStatementContext(firstGroupOfParam);
             executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam));
-            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParameters(executionContext, 0);
         }
         anyExecutionContext = executionContext;
         prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext);
@@ -109,16 +115,21 @@ public final class PostgreSQLBatchedStatementsExecutor {
                 connectionSession.getDatabaseName());
     }
     
+    private void addExecutionUnitParameters(final ExecutionContext executionContext, final int paramSetIndex) {
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
+            executionUnitParamSetIndexes.computeIfAbsent(each, unused -> new LinkedList<>()).add(paramSetIndex);
+        }
+    }
+    
     private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator, final SQLStatementContext sqlStatementContext) {
+        int paramSetIndex = 1;
         while (paramSetsIterator.hasNext()) {
             List<Object> eachGroupOfParam = paramSetsIterator.next();
             if (sqlStatementContext instanceof ParameterAware) {
                 ((ParameterAware) sqlStatementContext).setUpParameters(eachGroupOfParam);
             }
-            ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam));
-            for (ExecutionUnit each : eachExecutionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParameters(createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam)), paramSetIndex++);
         }
     }
     
@@ -135,11 +146,13 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     /**
      * Execute batch.
+     * 
+     * <p>Parameter sets are added to prepared statement of each routed data source and executed by JDBC batch, and update counts are re-sequenced by parameter set.</p>
      *
-     * @return inserted rows
+     * @return update counts of each parameter set, {@link Statement#SUCCESS_NO_INFO} if any routed data source did not report it
      * @throws SQLException SQL exception
      */
-    public int executeBatch() throws SQLException {
+    public int[] executeBatch() throws SQLException {
         connectionSession.getDatabaseConnectionManager().handleAutoCommit();
         addBatchedParametersToPreparedStatements();
         return executeBatchedPreparedStatements();
@@ -162,6 +175,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private void prepareJDBCExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) jdbcExecutionUnit.getStorageResource();
+        statementParamSetIndexes.put(preparedStatement, executionUnitParamSetIndexes.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList()));
         for (List<Object> eachGroupParam : executionUnitParams.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList())) {
             ListIterator<Object> params = eachGroupParam.listIterator();
             while (params.hasNext()) {
@@ -176,37 +190,65 @@ public final class PostgreSQLBatchedStatementsExecutor {
         }
     }
     
-    private int executeBatchedPreparedStatements() throws SQLException {
+    private int[] executeBatchedPreparedStatements() throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
         DatabaseType protocolType = database.getProtocolType();
-        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, storageTypes, preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
+        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, storageTypes, preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown,
+                statementParamSetIndexes, parameterSetsCount);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
-        int result = 0;
+        int[] result = new int[parameterSetsCount];
         for (int[] eachResult : executeResults) {
-            for (int each : eachResult) {
-                result += each;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mergeUpdateCount(result[i], eachResult[i]);
             }
         }
         return result;
     }
     
+    private static int mergeUpdateCount(final int updateCount, final int toBeMergedUpdateCount) {
+        if (Statement.SUCCESS_NO_INFO == updateCount || Statement.SUCCESS_NO_INFO == toBeMergedUpdateCount) {
+            return Statement.SUCCESS_NO_INFO;
+        }
+        return updateCount + Math.max(toBeMergedUpdateCount, 0);
+    }
+    
     private static final class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        private final Map<Statement, List<Integer>> statementParamSetIndexes;
+        
+        private final int parameterSetsCount;
+        
+        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final Map<String, DatabaseType> storageTypes, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                                      final Map<Statement, List<Integer>> statementParamSetIndexes, final int parameterSetsCount) {
             super(protocolType, storageTypes, sqlStatement, isExceptionThrown);
+            this.statementParamSetIndexes = statementParamSetIndexes;
+            this.parameterSetsCount = parameterSetsCount;
         }
         
         @Override
         protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
             try {
-                return statement.executeBatch();
+                return resequenceUpdateCounts(statement.executeBatch(), statementParamSetIndexes.getOrDefault(statement, Collections.emptyList()));
             } finally {
                 statement.close();
             }
         }
         
+        private int[] resequenceUpdateCounts(final int[] updateCounts, final List<Integer> paramSetIndexes) {
+            int[] result = new int[parameterSetsCount];
+            Iterator<Integer> paramSetIndexesIterator = paramSetIndexes.iterator();
+            for (int each : updateCounts) {
+                if (!paramSetIndexesIterator.hasNext()) {
+                    break;
+                }
+                int paramSetIndex = paramSetIndexesIterator.next();
+                result[paramSetIndex] = mergeUpdateCount(result[paramSetIndex], each);
+            }
+            return result;
+        }
+        
         @SuppressWarnings("OptionalContainsCollection")
         @Override
         protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -53,6 +54,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * Command query executor for PostgreSQL.
@@ -126,6 +128,11 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
         return new PostgreSQLDataRowPacket(proxyBackendHandler.getRowData().getData());
     }
     
+    @Override
+    public Optional<QueryResponseRow> getQueryRowData() throws SQLException {
+        return Optional.of(proxyBackendHandler.getRowData());
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data row batch writer for PostgreSQL.
+ * 
+ * <p>Rows are encoded in text format into one pooled byte buffer directly without creating data row packets, and the buffered rows are written to channel together.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLDataRowBatchWriter {
+    
+    private static final int MESSAGE_TYPE_LENGTH = 1;
+    
+    private final ChannelHandlerContext context;
+    
+    private PostgreSQLDataRowEncoder dataRowEncoder;
+    
+    private ByteBuf byteBuf;
+    
+    private PostgreSQLPacketPayload payload;
+    
+    /**
+     * Write query row into buffer.
+     *
+     * @param row query row
+     * @return encoded bytes of row
+     */
+    public int write(final QueryResponseRow row) {
+        List<QueryResponseCell> cells = row.getCells();
+        if (null == dataRowEncoder) {
+            dataRowEncoder = new PostgreSQLDataRowEncoder(getColumnTypes(cells));
+        }
+        if (null == byteBuf) {
+            byteBuf = context.alloc().ioBuffer();
+            payload = new PostgreSQLPacketPayload(byteBuf, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        }
+        int messageIndex = byteBuf.writerIndex();
+        byteBuf.writeByte(PostgreSQLMessagePacketType.DATA_ROW.getValue());
+        byteBuf.writeInt(0);
+        payload.writeInt2(cells.size());
+        int columnIndex = 0;
+        for (QueryResponseCell each : cells) {
+            dataRowEncoder.encode(payload, columnIndex++, each.getData());
+        }
+        byteBuf.setInt(messageIndex + MESSAGE_TYPE_LENGTH, byteBuf.writerIndex() - messageIndex - MESSAGE_TYPE_LENGTH);
+        return byteBuf.writerIndex() - messageIndex;
+    }
+    
+    private List<Integer> getColumnTypes(final List<QueryResponseCell> cells) {
+        List<Integer> result = new ArrayList<>(cells.size());
+        for (QueryResponseCell each : cells) {
+            result.add(each.getJdbcType());
+        }
+        return result;
+    }
+    
+    /**
+     * Write buffered rows to channel.
+     */
+    public void writeBufferedRows() {
+        if (null == byteBuf) {
+            return;
+        }
+        if (byteBuf.isReadable()) {
+            context.write(byteBuf);
+        } else {
+            byteBuf.release();
+        }
+        byteBuf = null;
+        payload = null;
+    }
+    
+    /**
+     * Release buffered rows which are not written to channel.
+     */
+    public void release() {
+        if (null == byteBuf) {
+            return;
+        }
+        byteBuf.release();
+        byteBuf = null;
+        payload = null;
+    }
+}
@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
@@ -30,6 +34,8 @@ import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -44,9 +50,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -128,4 +140,26 @@ class PostgreSQLCommandExecuteEngineTest {
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertWriteQueryDataWithQueryRowData() throws SQLException {
+        PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(channel.isActive()).thenReturn(true);
+        Attribute<Charset> charsetAttribute = mock(Attribute.class);
+        when(charsetAttribute.get()).thenReturn(StandardCharsets.UTF_8);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(charsetAttribute);
+        when(channel.isWritable()).thenReturn(true);
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        when(queryCommandExecutor.getQueryRowData()).thenReturn(Optional.of(new QueryResponseRow(Arrays.asList(new QueryResponseCell(Types.INTEGER, 1), new QueryResponseCell(Types.VARCHAR, "foo")))));
+        ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class, RETURNS_DEEP_STUBS);
+        when(databaseConnectionManager.getConnectionSession()).thenReturn(connectionSession);
+        ContextManager contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class), new ShardingSphereMetaData()), mock(InstanceContext.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        new PostgreSQLCommandExecuteEngine().writeQueryData(channelHandlerContext, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(channelHandlerContext).write(argThat(each -> each instanceof ByteBuf && 38 == ((ByteBuf) each).readableBytes() && 'D' == ((ByteBuf) each).getByte(19)));
+        verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLComCopyToStdoutExecutorTest {
+    
+    private static final PostgreSQLCopyTarget TARGET_0 = new PostgreSQLCopyTarget("ds_0", "t_order_0");
+    
+    private static final PostgreSQLCopyTarget TARGET_1 = new PostgreSQLCopyTarget("ds_1", "t_order_0");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLCopyRouteEngine routeEngine;
+    
+    @Mock
+    private CopyOut copyOut0;
+    
+    @Mock
+    private CopyOut copyOut1;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(routeEngine.route()).thenReturn(new LinkedHashSet<>(Arrays.asList(TARGET_0, TARGET_1)));
+        when(routeEngine.getColumnNames()).thenReturn(Arrays.asList("order_id", "status"));
+        when(routeEngine.getActualSQL(TARGET_0)).thenReturn("COPY t_order_0 TO STDOUT WITH (FORMAT csv, HEADER)");
+        when(routeEngine.getActualSQL(TARGET_1)).thenReturn("COPY t_order_0 TO STDOUT WITH (FORMAT csv, HEADER)");
+        mockCopyOut("ds_0", copyOut0);
+        mockCopyOut("ds_1", copyOut1);
+        when(copyOut0.readFromCopy()).thenReturn(getBytes("order_id,status\n"), getBytes("1,OK\n"), null);
+        when(copyOut0.getHandledRowCount()).thenReturn(1L);
+        when(copyOut1.readFromCopy()).thenReturn(getBytes("order_id,status\n"), getBytes("2,OK\n"), getBytes("3,OK\n"), null);
+        when(copyOut1.getHandledRowCount()).thenReturn(2L);
+    }
+    
+    private void mockCopyOut(final String dataSourceName, final CopyOut copyOut) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connectionSession.getDatabaseConnectionManager().getConnections(dataSourceName, 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyOut("COPY t_order_0 TO STDOUT WITH (FORMAT csv, HEADER)")).thenReturn(copyOut);
+    }
+    
+    @Test
+    void assertExecuteWithBinaryFormat() {
+        PostgreSQLComCopyToStdoutExecutor executor = new PostgreSQLComCopyToStdoutExecutor(connectionSession, routeEngine, PostgreSQLCopyOptions.parse(" (FORMAT binary)"));
+        assertThrows(UnsupportedSQLOperationException.class, executor::execute);
+    }
+    
+    @Test
+    void assertCopyOutWithHeaderOfFirstTargetOnly() throws SQLException {
+        PostgreSQLComCopyToStdoutExecutor executor = new PostgreSQLComCopyToStdoutExecutor(connectionSession, routeEngine, PostgreSQLCopyOptions.parse(" WITH (FORMAT csv, HEADER)"));
+        Collection<DatabasePacket> actualPackets = executor.execute();
+        assertThat(actualPackets.size(), is(1));
+        assertThat(actualPackets.iterator().next(), instanceOf(PostgreSQLCopyOutResponsePacket.class));
+        assertThat(executor.getResponseType(), is(ResponseType.QUERY));
+        assertNextData(executor, "order_id,status\n");
+        assertNextData(executor, "1,OK\n");
+        assertNextData(executor, "2,OK\n");
+        assertNextData(executor, "3,OK\n");
+        assertFalse(executor.next());
+        assertThat(executor.getCopiedRows(), is(3L));
+    }
+    
+    @Test
+    void assertCloseCancelsActiveCopyOut() throws SQLException {
+        PostgreSQLComCopyToStdoutExecutor executor = new PostgreSQLComCopyToStdoutExecutor(connectionSession, routeEngine, PostgreSQLCopyOptions.parse(" WITH (FORMAT csv, HEADER)"));
+        executor.execute();
+        assertTrue(executor.next());
+        when(copyOut0.isActive()).thenReturn(true);
+        executor.close();
+        verify(copyOut0).cancelCopy();
+    }
+    
+    private void assertNextData(final PostgreSQLComCopyToStdoutExecutor executor, final String expected) throws SQLException {
+        assertTrue(executor.next());
+        assertThat(((PostgreSQLCopyDataPacket) executor.getQueryRowPacket()).getData(), is(getBytes(expected)));
+    }
+    
+    private byte[] getBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
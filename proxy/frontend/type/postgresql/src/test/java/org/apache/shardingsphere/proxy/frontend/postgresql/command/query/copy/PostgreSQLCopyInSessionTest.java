@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLCopyInSessionTest {
+    
+    private static final PostgreSQLCopyTarget TARGET_0 = new PostgreSQLCopyTarget("ds_0", "t_order_0");
+    
+    private static final PostgreSQLCopyTarget TARGET_1 = new PostgreSQLCopyTarget("ds_0", "t_order_1");
+    
+    private static final PostgreSQLCopyTarget TARGET_2 = new PostgreSQLCopyTarget("ds_1", "t_order_0");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLCopyRouteEngine routeEngine;
+    
+    @Mock
+    private Connection connection0;
+    
+    @Mock
+    private Connection connection1;
+    
+    @Mock
+    private CopyIn copyIn0;
+    
+    @Mock
+    private CopyIn copyIn1;
+    
+    @Mock
+    private CopyIn copyIn2;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(routeEngine.route(anyList())).thenAnswer(invocation -> route(invocation.getArgument(0)));
+        when(routeEngine.getActualSQL(TARGET_0)).thenReturn("COPY t_order_0 FROM STDIN");
+        when(routeEngine.getActualSQL(TARGET_1)).thenReturn("COPY t_order_1 FROM STDIN");
+        when(routeEngine.getActualSQL(TARGET_2)).thenReturn("COPY t_order_0 FROM STDIN");
+        CopyManager copyManager0 = mockCopyManager(connection0);
+        when(copyManager0.copyIn("COPY t_order_0 FROM STDIN")).thenReturn(copyIn0);
+        when(copyManager0.copyIn("COPY t_order_1 FROM STDIN")).thenReturn(copyIn1);
+        when(mockCopyManager(connection1).copyIn("COPY t_order_0 FROM STDIN")).thenReturn(copyIn2);
+        when(copyIn0.endCopy()).thenReturn(2L);
+        when(copyIn1.endCopy()).thenReturn(1L);
+        when(copyIn2.endCopy()).thenReturn(1L);
+        when(copyIn0.isActive()).thenReturn(true);
+        when(copyIn1.isActive()).thenReturn(true);
+        when(copyIn2.isActive()).thenReturn(true);
+    }
+    
+    private Collection<PostgreSQLCopyTarget> route(final List<String> values) {
+        switch (values.get(0)) {
+            case "0":
+                return Collections.singleton(TARGET_0);
+            case "1":
+                return Collections.singleton(TARGET_1);
+            case "2":
+                return Collections.singleton(TARGET_2);
+            default:
+                throw new IllegalStateException(String.format("Can not route `%s`", values.get(0)));
+        }
+    }
+    
+    private CopyManager mockCopyManager(final Connection connection) throws SQLException {
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager result = mock(CopyManager.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(result);
+        return result;
+    }
+    
+    @Test
+    void assertCompleteWithOneConnectionPerDataSource() throws SQLException {
+        when(connectionSession.getTransactionStatus().isInConnectionHeldTransaction()).thenReturn(true);
+        when(connectionSession.getDatabaseConnectionManager().getConnections("ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(connectionSession.getDatabaseConnectionManager().getConnections("ds_1", 0, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+        PostgreSQLCopyInSession copyInSession = createCopyInSession();
+        copyInSession.write(getBytes("0\n1\n0\n2\n"));
+        assertThat(copyInSession.complete(), is(4L));
+        verify(connectionSession.getDatabaseConnectionManager()).getConnections("ds_0", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connectionSession.getDatabaseConnectionManager()).getConnections("ds_1", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(copyIn0).writeToCopy(startsWith("0\n0\n"), eq(0), eq(4));
+        verify(copyIn1).writeToCopy(startsWith("1\n"), eq(0), eq(2));
+        verify(copyIn2).writeToCopy(startsWith("2\n"), eq(0), eq(2));
+        verify(copyIn0).endCopy();
+        verify(copyIn1).endCopy();
+        verify(copyIn2).endCopy();
+        verify(connection0, never()).commit();
+        verify(connection0, never()).close();
+    }
+    
+    @Test
+    void assertCompleteInLocalTransaction() throws SQLException {
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_1", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+        PostgreSQLCopyInSession copyInSession = createCopyInSession();
+        copyInSession.write(getBytes("0\n2\n"));
+        assertThat(copyInSession.complete(), is(3L));
+        verify(connection0).setAutoCommit(false);
+        verify(connection1).setAutoCommit(false);
+        verify(copyIn2).endCopy();
+        verify(connection0).commit();
+        verify(connection1).commit();
+        verify(connection0).close();
+        verify(connection1).close();
+    }
+    
+    @Test
+    void assertCompleteFailedAndRollback() throws SQLException {
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_1", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection1));
+        when(copyIn2.endCopy()).thenThrow(SQLException.class);
+        PostgreSQLCopyInSession copyInSession = createCopyInSession();
+        copyInSession.write(getBytes("0\n2\n"));
+        assertThrows(SQLException.class, copyInSession::complete);
+        assertTrue(copyInSession.isFailed());
+        verify(connection0, never()).commit();
+        verify(connection1, never()).commit();
+        verify(copyIn2).cancelCopy();
+        verify(connection0).rollback();
+        verify(connection1).rollback();
+        verify(connection0).close();
+        verify(connection1).close();
+    }
+    
+    @Test
+    void assertWriteFailedAndDropRemainingData() throws SQLException {
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        PostgreSQLCopyInSession copyInSession = createCopyInSession();
+        assertThrows(IllegalStateException.class, () -> copyInSession.write(getBytes("0\n3\n")));
+        assertTrue(copyInSession.isFailed());
+        copyInSession.write(getBytes("0\n"));
+        verify(routeEngine, times(1)).route(Collections.singletonList("0"));
+        verify(copyIn0).cancelCopy();
+        verify(copyIn0, never()).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        verify(connection0).rollback();
+        verify(connection0).close();
+    }
+    
+    @Test
+    void assertSwitchTargetWhenHeldBackDataIsLarge() throws SQLException {
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections("foo_db", "ds_0", 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection0));
+        PostgreSQLCopyInSession copyInSession = createCopyInSession();
+        copyInSession.write(getBytes("0\n"));
+        char[] padding = new char[1022];
+        Arrays.fill(padding, 'x');
+        String heldBackRow = "1\t" + new String(padding) + "\n";
+        for (int i = 0; i < 1023; i++) {
+            copyInSession.write(getBytes(heldBackRow));
+        }
+        verify(copyIn0, never()).endCopy();
+        copyInSession.write(getBytes(heldBackRow));
+        verify(copyIn0).writeToCopy(startsWith("0\n"), eq(0), eq(2));
+        verify(copyIn0).endCopy();
+        verify(copyIn1).writeToCopy(any(byte[].class), eq(0), eq(1024 * 1025));
+        assertThat(copyInSession.complete(), is(3L));
+        verify(copyIn1).endCopy();
+        verify(connection0).commit();
+    }
+    
+    private PostgreSQLCopyInSession createCopyInSession() {
+        return new PostgreSQLCopyInSession(connectionSession, routeEngine, new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8));
+    }
+    
+    private static byte[] startsWith(final String expected) {
+        return argThat(actual -> actual.length >= expected.length() && expected.equals(new String(actual, 0, expected.length(), StandardCharsets.UTF_8)));
+    }
+    
+    private byte[] getBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyOptionsTest {
+    
+    @Test
+    void assertParseDefaultOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse("");
+        assertFalse(actual.isCsv());
+        assertFalse(actual.isBinary());
+        assertThat(actual.getDelimiter(), is('\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+    }
+    
+    @Test
+    void assertParseOptionList() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse(" WITH (FORMAT csv, DELIMITER '|', NULL 'NULL', QUOTE '''', ESCAPE E'\\\\', HEADER true)");
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is('|'));
+        assertThat(actual.getNullString(), is("NULL"));
+        assertThat(actual.getQuote(), is('\''));
+        assertThat(actual.getEscape(), is('\\'));
+        assertTrue(actual.isHeader());
+    }
+    
+    @Test
+    void assertParseLegacyOptions() {
+        PostgreSQLCopyOptions actual = PostgreSQLCopyOptions.parse(" WITH CSV HEADER DELIMITER AS ';'");
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is(';'));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is('"'));
+        assertThat(actual.getEscape(), is('"'));
+        assertTrue(actual.isHeader());
+    }
+    
+    @Test
+    void assertParseBinaryFormat() {
+        assertTrue(PostgreSQLCopyOptions.parse(" (FORMAT binary)").isBinary());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.mask.rule.MaskRule;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLCopyRouteEngineTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    private ShardingSphereDatabase database;
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(connectionSession.getConnectionContext()).thenReturn(new ConnectionContext());
+        database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        ShardingSphereSchema schema = createSchema();
+        when(database.getSchema("public")).thenReturn(schema);
+        when(database.getSchemas()).thenReturn(Collections.singletonMap("public", schema));
+        when(database.getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("ds_0", mock(DataSource.class)));
+        mockRules(Collections.emptyList());
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        when(metaData.getGlobalRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Collections.singleton(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()))));
+        when(metaData.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()).thenReturn(metaData);
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false), new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false)),
+                Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap());
+    }
+    
+    private void mockRules(final Collection<ShardingSphereRule> rules) {
+        when(database.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(rules));
+    }
+    
+    @Test
+    void assertRouteCopyIn() {
+        PostgreSQLCopyRouteEngine routeEngine = createRouteEngine("COPY t_order FROM STDIN", true);
+        assertThat(routeEngine.getColumnNames(), is(Arrays.asList("order_id", "status")));
+        Collection<PostgreSQLCopyTarget> actual = routeEngine.route(Arrays.asList("1", "OK"));
+        assertThat(actual.size(), is(1));
+        PostgreSQLCopyTarget actualTarget = actual.iterator().next();
+        assertThat(actualTarget, is(new PostgreSQLCopyTarget("ds_0", "t_order")));
+        assertThat(routeEngine.getActualSQL(actualTarget), is("COPY t_order FROM STDIN"));
+    }
+    
+    @Test
+    void assertRouteCopyOut() {
+        PostgreSQLCopyRouteEngine routeEngine = createRouteEngine("COPY t_order (status) TO STDOUT", false);
+        assertThat(routeEngine.getColumnNames(), is(Collections.singletonList("status")));
+        assertThat(routeEngine.route(), is(Collections.singleton(new PostgreSQLCopyTarget("ds_0", "t_order"))));
+    }
+    
+    @Test
+    void assertGetActualSQLWithOwner() {
+        PostgreSQLCopyRouteEngine routeEngine = createRouteEngine("COPY public.t_order (order_id, status) FROM STDIN WITH (FORMAT csv)", true);
+        assertThat(routeEngine.getActualSQL(new PostgreSQLCopyTarget("ds_0", "t_order_1")), is("COPY public.t_order_1 (order_id, status) FROM STDIN WITH (FORMAT csv)"));
+    }
+    
+    @Test
+    void assertNewInstanceWithEncryptTable() {
+        EncryptRule encryptRule = mock(EncryptRule.class);
+        when(encryptRule.findEncryptTable("t_order")).thenReturn(Optional.of(mock(EncryptTable.class)));
+        mockRules(Collections.singleton(encryptRule));
+        assertThrows(UnsupportedSQLOperationException.class, () -> createRouteEngine("COPY t_order FROM STDIN", true));
+        assertThrows(UnsupportedSQLOperationException.class, () -> createRouteEngine("COPY t_order TO STDOUT", false));
+    }
+    
+    @Test
+    void assertNewInstanceWithMaskTable() {
+        MaskRule maskRule = mock(MaskRule.class);
+        when(maskRule.getLogicTableMapper()).thenReturn(new TableNamesMapper(Collections.singleton("t_order")));
+        mockRules(Collections.singleton(maskRule));
+        assertThrows(UnsupportedSQLOperationException.class, () -> createRouteEngine("COPY t_order TO STDOUT", false));
+    }
+    
+    @Test
+    void assertNewInstanceWithoutKeyGenerateColumn() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.findGenerateKeyColumnName("t_order")).thenReturn(Optional.of("order_id"));
+        mockRules(Collections.singleton(shardingRule));
+        assertThrows(UnsupportedSQLOperationException.class, () -> createRouteEngine("COPY t_order (status) FROM STDIN", true));
+    }
+    
+    @Test
+    void assertNewInstanceWithKeyGenerateColumn() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.findGenerateKeyColumnName("t_order")).thenReturn(Optional.of("order_id"));
+        mockRules(Collections.singleton(shardingRule));
+        assertThat(createRouteEngine("COPY t_order (ORDER_ID, status) FROM STDIN", true).getColumnNames(), is(Arrays.asList("ORDER_ID", "status")));
+    }
+    
+    private PostgreSQLCopyRouteEngine createRouteEngine(final String sql, final boolean copyIn) {
+        SQLParserRule sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        PostgreSQLCopyStatement sqlStatement = (PostgreSQLCopyStatement) sqlParserRule.getSQLParserEngine("PostgreSQL").parse(sql, false);
+        return new PostgreSQLCopyRouteEngine(connectionSession, sql, sqlStatement, copyIn);
+    }
+}
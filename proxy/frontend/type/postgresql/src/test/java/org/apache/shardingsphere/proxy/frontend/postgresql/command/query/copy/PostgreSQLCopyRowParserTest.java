@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyRowParserTest {
+    
+    @Test
+    void assertParseTextRowsAcrossData() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8);
+        List<PostgreSQLCopyRow> actual = parser.parse(getBytes("1\tfoo\n2\t\\N\n3\tba"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "foo")));
+        assertThat(actual.get(0).getData(), is(getBytes("1\tfoo\n")));
+        assertThat(actual.get(1).getValues().get(1), nullValue());
+        actual = parser.parse(getBytes("r\\\tx\\n\\101\\x41\n4\tlast"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("3", "bar\tx\nAA")));
+        actual = parser.finish();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getData(), is(getBytes("4\tlast\n")));
+    }
+    
+    @Test
+    void assertParseEscapeAtEndOfData() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8);
+        assertTrue(parser.parse(getBytes("a\\")).isEmpty());
+        List<PostgreSQLCopyRow> actual = parser.parse(getBytes("\tb\n"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("a\tb")));
+    }
+    
+    @Test
+    void assertParseCSVRowsWithHeader() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(" (FORMAT csv, HEADER)"), StandardCharsets.UTF_8);
+        assertTrue(parser.parse(getBytes("id,name\n1,\"a,")).isEmpty());
+        assertThat(parser.getHeader(), is(getBytes("id,name\n")));
+        List<PostgreSQLCopyRow> actual = parser.parse(getBytes("b\"\n2,\"multi\nline \"\"quoted\"\"\"\r\n3,,\"\"\n"));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "a,b")));
+        assertThat(actual.get(1).getValues(), is(Arrays.asList("2", "multi\nline \"quoted\"")));
+        assertThat(actual.get(2).getValues().get(1), nullValue());
+        assertThat(actual.get(2).getValues().get(2), is(""));
+    }
+    
+    @Test
+    void assertParseEndOfDataMarker() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(PostgreSQLCopyOptions.parse(""), StandardCharsets.UTF_8);
+        List<PostgreSQLCopyRow> actual = parser.parse(getBytes("1\n\\.\n2\n"));
+        assertThat(actual.size(), is(1));
+        assertTrue(parser.parse(getBytes("3\n")).isEmpty());
+        assertTrue(parser.finish().isEmpty());
+    }
+    
+    private byte[] getBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
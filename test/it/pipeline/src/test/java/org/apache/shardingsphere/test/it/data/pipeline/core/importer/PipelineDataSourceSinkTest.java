@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineDataSourceSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
@@ -53,10 +54,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -145,6 +151,83 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertWriteInsertDataRecordsWithMultipleLanes() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        for (int i = 1; i <= 8; i++) {
+            records.add(getInsertDataRecord(i));
+        }
+        assertThat(writeWithMultipleLanes(records), is(8));
+        verify(preparedStatement, times(8)).addBatch();
+    }
+    
+    @Test
+    void assertWriteSameUniqueKeyRecordsInOrderWithMultipleLanes() throws SQLException {
+        PreparedStatement insertStatement = mock(PreparedStatement.class);
+        PreparedStatement updateStatement = mock(PreparedStatement.class);
+        PreparedStatement deleteStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("INSERT"))).thenReturn(insertStatement);
+        when(connection.prepareStatement(startsWith("UPDATE"))).thenReturn(updateStatement);
+        when(connection.prepareStatement(startsWith("DELETE"))).thenReturn(deleteStatement);
+        when(deleteStatement.executeBatch()).thenReturn(new int[]{1});
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT"));
+        for (int i = 2; i <= 8; i++) {
+            records.add(getInsertDataRecord(i));
+        }
+        records.add(getDataRecord("UPDATE"));
+        records.add(getDataRecord("DELETE"));
+        assertThat(writeWithMultipleLanes(records), is(8));
+        InOrder inOrder = inOrder(insertStatement, updateStatement, deleteStatement);
+        inOrder.verify(insertStatement).setObject(1, 1);
+        inOrder.verify(updateStatement).setObject(1, 20);
+        inOrder.verify(updateStatement).executeUpdate();
+        inOrder.verify(deleteStatement).setObject(1, 1);
+        inOrder.verify(deleteStatement).executeBatch();
+    }
+    
+    @Test
+    void assertWriteUniqueKeyUpdatedRecordsInOrderWithMultipleLanes() throws SQLException {
+        PreparedStatement insertStatement = mock(PreparedStatement.class);
+        PreparedStatement updateStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("INSERT"))).thenReturn(insertStatement);
+        when(connection.prepareStatement(startsWith("UPDATE"))).thenReturn(updateStatement);
+        List<Record> records = new LinkedList<>();
+        for (int i = 3; i <= 5; i++) {
+            records.add(getInsertDataRecord(i));
+        }
+        records.add(getUpdatePrimaryKeyDataRecord());
+        records.add(getInsertDataRecord(1));
+        assertThat(writeWithMultipleLanes(records), is(4));
+        InOrder inOrder = inOrder(insertStatement, updateStatement);
+        inOrder.verify(insertStatement).setObject(1, 3);
+        inOrder.verify(insertStatement).setObject(1, 4);
+        inOrder.verify(insertStatement).setObject(1, 5);
+        inOrder.verify(updateStatement).setObject(1, 2);
+        inOrder.verify(updateStatement).executeUpdate();
+        inOrder.verify(insertStatement).setObject(1, 1);
+    }
+    
+    private int writeWithMultipleLanes(final List<Record> records) {
+        ExecuteEngine laneExecuteEngine = ExecuteEngine.newFixedThreadInstance(3, "test-lane");
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(4), dataSourceManager, laneExecuteEngine);
+        try {
+            return pipelineSink.write("", records).getProcessedRecordsCount();
+        } finally {
+            pipelineSink.close();
+            laneExecuteEngine.shutdown();
+        }
+    }
+    
+    private DataRecord getInsertDataRecord(final int id) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, TABLE_NAME, new PlaceholderPosition(), 3);
+        result.addColumn(new Column("id", null, id, true, true));
+        result.addColumn(new Column("user", null, 10, true, false));
+        result.addColumn(new Column("status", null, "INSERT", true, false));
+        return result;
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(IngestDataChangeType.UPDATE, TABLE_NAME, new PlaceholderPosition(), 3);
         result.addColumn(new Column("id", 1, 2, true, true));
@@ -192,7 +275,11 @@ class PipelineDataSourceSinkTest {
     }
     
     private ImporterConfiguration mockImporterConfiguration() {
+        return mockImporterConfiguration(1);
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration(final int writeLanes) {
         Map<LogicTableName, Set<String>> shardingColumnsMap = Collections.singletonMap(new LogicTableName("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3, writeLanes);
     }
 }